@@ -0,0 +1,145 @@
+package com.univ.memoir.core.category;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knuddels.jtokkit.Encodings;
+import com.knuddels.jtokkit.api.Encoding;
+import com.knuddels.jtokkit.api.EncodingType;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+
+/**
+ * 카테고리 분류 프롬프트 토큰 수 비교 (o200k_base 토크나이저)
+ * - legacy: 방문 기록 DTO 전체를 JSON 으로 보내고 title/url/category 를 되돌려 받던 기존 형식
+ * - compact: CategoryPromptEncoder 의 "번호|주소|제목" 입력 + "번호 코드" 응답
+ * 토큰 수는 Setup 에서 표준 출력으로 남기고, 벤치마크는 프롬프트 생성 + 토큰 계산 시간을 잰다.
+ *
+ * 측정 결과 (Setup 출력, 입력 토큰은 지시문 포함)
+ * <pre>
+ * pages   legacy 입력 / 응답    compact 입력 / 응답    감소 (입력 / 응답)
+ *    40      2565 /  2228          964 / 120          -62% / -95%
+ *   200     11803 / 11095         3723 / 600          -68% / -95%
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryPromptTokenBenchmark {
+
+    private static final String[][] SITES = {
+            {"https://github.com/spring-projects/spring-boot/issues/%d?utm_source=newsletter", "Issue #%d · spring-projects/spring-boot"},
+            {"https://stackoverflow.com/questions/%d/how-to-configure-resttemplate-timeout-in-spring-boot", "java - How to configure RestTemplate timeout in Spring Boot - Stack Overflow"},
+            {"https://www.youtube.com/watch?v=abc%d&list=PL123&index=4", "(1) 오늘의 플레이리스트 - YouTube"},
+            {"https://n.news.naver.com/mnews/article/001/00%d?sid=105", "AI 반도체 수출 역대 최대… 하반기 전망은 : 네이버 뉴스"},
+            {"https://www.coupang.com/vp/products/%d?itemId=1&vendorItemId=2&sourceType=srp", "쿠팡! | 무선 기계식 키보드 텐키리스"},
+            {"https://www.notion.so/workspace/Sprint-Planning-%d", "Sprint Planning 회의록 | Notion"},
+            {"https://docs.google.com/document/d/1AbCdEf%d/edit#heading=h.xyz", "주간 보고서 - Google Docs"},
+    };
+
+    @Param({"40", "200"})
+    private int pages;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Encoding encoding = Encodings.newDefaultEncodingRegistry().getEncoding(EncodingType.O200K_BASE);
+
+    private List<VisitedPageForTimeDto> visited;
+    private List<Integer> indices;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        visited = new ArrayList<>(pages);
+        for (int i = 0; i < pages; i++) {
+            String[] site = SITES[random.nextInt(SITES.length)];
+            int id = 1000 + random.nextInt(50);
+            VisitedPageForTimeDto page = new VisitedPageForTimeDto();
+            page.setUrl(site[0].formatted(id));
+            page.setTitle(site[1].formatted(id));
+            page.setVisitCount(1 + random.nextInt(5));
+            page.setStartTimestamp(1_760_000_000L + i * 90L);
+            page.setDurationSeconds(random.nextInt(600));
+            visited.add(page);
+        }
+        indices = IntStream.range(0, pages).boxed().toList();
+
+        int legacyPrompt = encoding.countTokens(legacyPrompt());
+        int legacyResponse = encoding.countTokens(legacyResponse());
+        int compactPrompt = encoding.countTokens(CategoryPromptEncoder.encode(visited, indices));
+        int compactResponse = encoding.countTokens(compactResponse());
+        System.out.printf("%n[tokens] pages=%d legacy prompt=%d response=%d | compact prompt=%d response=%d "
+                        + "(prompt -%.0f%%, response -%.0f%%)%n",
+                pages, legacyPrompt, legacyResponse, compactPrompt, compactResponse,
+                100.0 * (legacyPrompt - compactPrompt) / legacyPrompt,
+                100.0 * (legacyResponse - compactResponse) / legacyResponse);
+    }
+
+    @Benchmark
+    public int legacy() throws Exception {
+        return encoding.countTokens(legacyPrompt());
+    }
+
+    @Benchmark
+    public int compact() {
+        return encoding.countTokens(CategoryPromptEncoder.encode(visited, indices));
+    }
+
+    private String legacyPrompt() throws Exception {
+        return """
+            아래는 사용자의 방문 기록입니다. 각 페이지의 제목과 URL을 분석하여 정확한 카테고리를 분류해주세요.
+
+            **카테고리 분류 기준:**
+            - '공부, 학습': GitHub, Stack Overflow, 기술 문서, 온라인 강의, 코딩 문제 사이트
+            - '뉴스, 정보 탐색': 뉴스 사이트, 기술 뉴스, LinkedIn 등
+            - '콘텐츠 소비': 유튜브, 넷플릭스, 인스타그램, 트위터 등 SNS/미디어
+            - '쇼핑': 쿠팡, 11번가, 아마존 등 쇼핑몰
+            - '업무, 프로젝트': Google Docs, Notion, Slack, Jira, AWS 콘솔 등
+
+            **중요: 반드시 위 5개 카테고리 중 하나로만 분류하고, 빈 값이나 다른 값을 사용하지 마세요.**
+
+            JSON 배열로만 응답하세요. 설명이나 추가 텍스트는 절대 포함하지 마세요:
+            [
+              { "title": "페이지 제목", "url": "URL", "category": "정확한 카테고리명" }
+            ]
+
+            방문 기록:
+            %s
+            """.formatted(objectMapper.writeValueAsString(visited));
+    }
+
+    private String legacyResponse() {
+        StringBuilder sb = new StringBuilder("[\n");
+        for (int i = 0; i < visited.size(); i++) {
+            VisitedPageForTimeDto page = visited.get(i);
+            sb.append("  { \"title\": \"").append(page.getTitle())
+                    .append("\", \"url\": \"").append(page.getUrl())
+                    .append("\", \"category\": \"").append(category(i).getLabel()).append("\" }")
+                    .append(i + 1 < visited.size() ? ",\n" : "\n");
+        }
+        return sb.append("]").toString();
+    }
+
+    private String compactResponse() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < visited.size(); i++) {
+            sb.append(i).append(' ').append(category(i).getCode()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static PageCategory category(int i) {
+        return PageCategory.values()[i % PageCategory.values().length];
+    }
+}
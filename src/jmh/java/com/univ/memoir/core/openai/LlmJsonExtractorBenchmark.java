@@ -0,0 +1,114 @@
+package com.univ.memoir.core.openai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 카테고리 분류 응답 파싱 비교
+ * - legacy: 기존 cleanJsonContent(정규식 치환) + Map 목록으로 역직렬화
+ * - extractor: LlmJsonExtractor 로 DTO 직접 바인딩
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LlmJsonExtractorBenchmark {
+
+    @Param({"40", "400"})
+    private int items;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LlmJsonExtractor extractor;
+    private String content;
+
+    public record CategoryItem(Integer index, String category) {
+    }
+
+    @Setup
+    public void setUp() {
+        extractor = new LlmJsonExtractor(objectMapper);
+
+        String[] categories = {"공부, 학습", "뉴스, 정보 탐색", "콘텐츠 소비", "쇼핑", "업무, 프로젝트"};
+        StringBuilder sb = new StringBuilder("다음은 분류 결과입니다.\n```json\n[\n");
+        for (int i = 0; i < items; i++) {
+            sb.append("  { \"index\": ").append(i)
+                    .append(", \"category\": \"").append(categories[i % categories.length]).append("\" }")
+                    .append(i + 1 < items ? ",\n" : "\n");
+        }
+        content = sb.append("]\n```").toString();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public List<String> legacy() throws Exception {
+        List<Map<String, Object>> parsed = objectMapper.readValue(cleanJsonContent(content), List.class);
+        List<String> result = new ArrayList<>(parsed.size());
+        for (Map<String, Object> item : parsed) {
+            result.add(String.valueOf(item.get("category")));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<String> extractor() {
+        List<CategoryItem> parsed = extractor.readArray(content, CategoryItem.class);
+        List<String> result = new ArrayList<>(parsed.size());
+        for (CategoryItem item : parsed) {
+            result.add(item.category());
+        }
+        return result;
+    }
+
+    /**
+     * 기존 TimeService.cleanJsonContent
+     */
+    private static String cleanJsonContent(String content) {
+        if (content == null || content.trim().isEmpty()) {
+            return "[]";
+        }
+        content = content.trim();
+        if (content.contains("```")) {
+            int start = content.indexOf("```");
+            if (start != -1) {
+                start = content.indexOf("\n", start);
+                if (start == -1) start = content.indexOf("```") + 3;
+                else start += 1;
+
+                int end = content.lastIndexOf("```");
+                if (end > start) {
+                    content = content.substring(start, end).trim();
+                }
+            }
+        }
+        int jsonStart = content.indexOf("[");
+        if (jsonStart == -1) {
+            return "[]";
+        }
+        int jsonEnd = content.lastIndexOf("]");
+        if (jsonEnd == -1 || jsonEnd <= jsonStart) {
+            return "[]";
+        }
+        content = content.substring(jsonStart, jsonEnd + 1);
+        content = content
+                .replaceAll("[\u0000-\u001F\u007F-\u009F]", "")
+                .replaceAll("\\\\+", "\\\\")
+                .replaceAll("\\s+", " ")
+                .trim();
+        if (content.equals("[]") || content.isEmpty()) {
+            return "[]";
+        }
+        return content;
+    }
+}
@@ -0,0 +1,73 @@
+package com.univ.memoir.core.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 상위 9개 키워드 선택 비교
+ * - parallelStream: 기존 KeywordService.getTopKeywordsForToday (groupingBy + summingInt, 전체 정렬 후 limit)
+ * - topKCounter: TopKCounter (int id 빈도 배열 + 크기 9 최소 힙)
+ * 행 수의 1/3 정도가 서로 다른 키워드인 하루치 키워드 행을 가정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopKCounterBenchmark {
+
+    private static final int TOP = 9;
+
+    @Param({"30", "300", "3000"})
+    private int rows;
+
+    private List<Row> data;
+
+    public record Row(String keyword, int frequency) {
+    }
+
+    public record Ranked(String keyword, int frequency) {
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int distinct = Math.max(1, rows / 3);
+        data = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            data.add(new Row("keyword-" + random.nextInt(distinct), 1 + random.nextInt(10)));
+        }
+    }
+
+    @Benchmark
+    public List<Ranked> parallelStream() {
+        return data.parallelStream()
+                .collect(Collectors.groupingBy(
+                        Row::keyword,
+                        Collectors.summingInt(Row::frequency)))
+                .entrySet().parallelStream()
+                .map(entry -> new Ranked(entry.getKey(), entry.getValue()))
+                .sorted((a, b) -> Integer.compare(b.frequency(), a.frequency()))
+                .limit(TOP)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Ranked> topKCounter() {
+        TopKCounter counter = new TopKCounter(data.size());
+        for (Row row : data) {
+            counter.add(row.keyword(), row.frequency());
+        }
+        return counter.top(TOP, Ranked::new);
+    }
+}
@@ -3,6 +3,7 @@ package com.univ.memoir;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.servers.Server;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.servers.Server;
 )
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 public class MemoirApplication {
 
 	public static void main(String[] args) {
@@ -5,13 +5,13 @@ import com.univ.memoir.api.dto.res.AuthResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.univ.memoir.config.jwt.CustomUserDetails;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
 import com.univ.memoir.core.service.AuthService;
 
 import lombok.RequiredArgsConstructor;
@@ -39,8 +39,8 @@ public class AuthController {
      */
     @PostMapping("/logout")
     @Operation(summary = "로그아웃", description = "서비스에서 로그아웃 합니다.")
-    public ResponseEntity<Void> logout(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        authService.logout(userDetails.getUsername());
+    public ResponseEntity<Void> logout(@LoginUser AuthUser authUser) {
+        authService.logout(authUser);
         return ResponseEntity.ok().build();
     }
 }
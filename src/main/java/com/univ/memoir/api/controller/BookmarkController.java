@@ -8,13 +8,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.bookmark.BookmarkRequestDto;
 import com.univ.memoir.api.dto.req.bookmark.BookmarkUpdateRequestDto;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
 import com.univ.memoir.core.service.BookmarkService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,8 +33,8 @@ public class BookmarkController {
     @GetMapping
     @Operation(summary = "즐겨찾기 조회", description = "사용자의 즐겨찾기 목록을 조회합니다.")
     public ResponseEntity<SuccessResponse<Set<String>>> getBookmarks(
-            @RequestHeader(name = "Authorization") String accessToken) {
-        SuccessResponse<Set<String>> response = bookmarkService.getBookmarks(accessToken);
+            @LoginUser AuthUser authUser) {
+        SuccessResponse<Set<String>> response = bookmarkService.getBookmarks(authUser);
         return ResponseEntity.ok(response);
     }
 
@@ -41,27 +42,27 @@ public class BookmarkController {
     @PostMapping
     @Operation(summary = "즐겨찾기 추가", description = "즐겨찾기를 추가합니다.")
     public ResponseEntity<SuccessResponse<String>> addBookmark(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginUser AuthUser authUser,
             @RequestBody BookmarkRequestDto requestDto) {
-        SuccessResponse<String> response = bookmarkService.addBookmark(accessToken, requestDto);
+        SuccessResponse<String> response = bookmarkService.addBookmark(authUser, requestDto);
         return ResponseEntity.ok(response);
     }
 
     @DeleteMapping
     @Operation(summary = "즐겨찾기 삭제", description = "즐겨찾기를 삭제합니다.")
     public ResponseEntity<SuccessResponse<String>> removeBookmark(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginUser AuthUser authUser,
             @RequestBody BookmarkRequestDto requestDto) {
-        SuccessResponse<String> response = bookmarkService.removeBookmark(accessToken, requestDto);
+        SuccessResponse<String> response = bookmarkService.removeBookmark(authUser, requestDto);
         return ResponseEntity.ok(response);
     }
 
     @PatchMapping
     @Operation(summary = "즐겨찾기 수정", description = "즐겨찾기를 수정합니다.")
     public ResponseEntity<SuccessResponse<String>> updateBookmark(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginUser AuthUser authUser,
             @RequestBody BookmarkUpdateRequestDto requestDto) {
-        SuccessResponse<String> response = bookmarkService.updateBookmark(accessToken, requestDto);
+        SuccessResponse<String> response = bookmarkService.updateBookmark(authUser, requestDto);
         return ResponseEntity.ok(response);
     }
 }
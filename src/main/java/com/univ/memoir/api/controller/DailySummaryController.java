@@ -9,15 +9,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.res.DailyPopupResponse;
+import com.univ.memoir.api.dto.res.DailySummaryJobResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
+import com.univ.memoir.core.service.DailySummaryJobService;
 import com.univ.memoir.core.service.DailySummaryService;
+import com.univ.memoir.core.service.DailySummaryStreamService;
 import com.univ.memoir.core.service.MonthlySummaryService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,37 +38,76 @@ public class DailySummaryController {
 
 	private final DailySummaryService dailySummaryService;
 	private final MonthlySummaryService monthlySummaryService;
+	private final DailySummaryJobService dailySummaryJobService;
+	private final DailySummaryStreamService dailySummaryStreamService;
 
 	@PostMapping(value = "/daily", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
 	@Operation(summary = "일일 요약", description = "일일 요약 페이지를 생성합니다.")
 	public ResponseEntity<SuccessResponse<DailySummaryService.DailySummaryResult>> getDailySummary(
-			@RequestHeader("Authorization") String accessToken,
+			@LoginUser AuthUser authUser,
 			@RequestBody @Valid TimeAnalysisRequest request) {
 
-		DailySummaryService.DailySummaryResult result = dailySummaryService.summarizeDay(accessToken, request);
+		DailySummaryService.DailySummaryResult result = dailySummaryService.summarizeDay(authUser, request);
 
 		return ResponseEntity.ok(
 				SuccessResponse.of(SuccessCode.TIME_ANALYSIS_SUCCESS, result).getBody()
 		);
 	}
 
+	@PostMapping(value = "/daily/stream", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "일일 요약 스트리밍", description = "일일 요약을 생성하면서 activityStats, topKeyword, timeline, summaryText 이벤트를 순서대로 보내고, 마지막에 result(또는 error) 이벤트를 보냅니다.")
+	public SseEmitter streamDailySummary(
+			@LoginUser AuthUser authUser,
+			@RequestBody @Valid TimeAnalysisRequest request) {
+		return dailySummaryStreamService.stream(authUser, request);
+	}
+
+	@PostMapping(value = "/daily/jobs", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "일일 요약 작업 등록", description = "일일 요약 생성을 비동기 작업으로 등록하고 작업 ID를 바로 반환합니다.")
+	public ResponseEntity<SuccessResponse<DailySummaryJobResponse>> submitDailySummaryJob(
+			@LoginUser AuthUser authUser,
+			@RequestBody @Valid TimeAnalysisRequest request) {
+
+		DailySummaryJobResponse job = dailySummaryJobService.submit(authUser, request);
+		return SuccessResponse.of(SuccessCode.SUMMARY_JOB_ACCEPTED, job);
+	}
+
+	@GetMapping("/daily/jobs/{jobId}")
+	@Operation(summary = "일일 요약 작업 조회", description = "일일 요약 작업의 상태와 완료된 경우 결과를 조회합니다.")
+	public ResponseEntity<SuccessResponse<DailySummaryJobResponse>> getDailySummaryJob(
+			@LoginUser AuthUser authUser,
+			@PathVariable("jobId") String jobId
+	) {
+		DailySummaryJobResponse job = dailySummaryJobService.get(authUser, jobId);
+		return SuccessResponse.of(SuccessCode.SUMMARY_JOB_OK, job);
+	}
+
+	@GetMapping(value = "/daily/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "일일 요약 작업 구독", description = "작업 상태를 SSE(status 이벤트)로 받습니다. 완료되면 스트림이 닫힙니다.")
+	public SseEmitter subscribeDailySummaryJob(
+			@LoginUser AuthUser authUser,
+			@PathVariable("jobId") String jobId
+	) {
+		return dailySummaryJobService.subscribe(authUser, jobId);
+	}
+
 	@GetMapping("/daily/popup/{date}")
 	@Operation(summary = "일별 요약 페이지", description = "일별 요약 팝업을 조회합니다.")
 	public ResponseEntity<SuccessResponse<DailyPopupResponse.Data>> getDailyPopup(
-			@RequestHeader("Authorization") String accessToken,
+			@LoginUser AuthUser authUser,
 			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
 	) {
-		DailyPopupResponse.Data data = monthlySummaryService.getDailyPopup(accessToken, date);
+		DailyPopupResponse.Data data = monthlySummaryService.getDailyPopup(authUser, date);
 		return SuccessResponse.of(SuccessCode.DAILY_POPUP_OK, data);
 	}
 
 	@GetMapping("/daily/{date}")
 	@Operation(summary = "일별 요약 페이지", description = "일별 요약 팝업을 조회합니다.")
 	public ResponseEntity<SuccessResponse<DailySummaryService.DailySummaryResult>> getDaily(
-			@RequestHeader("Authorization") String accessToken,
+			@LoginUser AuthUser authUser,
 			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate date
 	) {
-		DailySummaryService.DailySummaryResult data = dailySummaryService.getDaily(accessToken, date);
+		DailySummaryService.DailySummaryResult data = dailySummaryService.getDaily(authUser, date);
 		return SuccessResponse.of(SuccessCode.DAILY_POPUP_OK, data);
 	}
 }
\ No newline at end of file
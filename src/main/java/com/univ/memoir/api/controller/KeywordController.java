@@ -1,21 +1,27 @@
 package com.univ.memoir.api.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.univ.memoir.api.dto.req.VisitedPagesRequest;
 import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
 import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTrendResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
 import com.univ.memoir.core.service.KeywordService;
+import com.univ.memoir.core.service.KeywordTrendService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -28,25 +34,39 @@ import lombok.RequiredArgsConstructor;
 public class KeywordController {
 
     private final KeywordService keywordService;
+    private final KeywordTrendService keywordTrendService;
 
     @PostMapping("/analyze")
     @Operation(summary = "오늘의 키워드 분석", description = "오늘의 키워드를 분석합니다.")
     public ResponseEntity<SuccessResponse<KeywordResponseDto>> analyzeKeywords(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginUser AuthUser authUser,
             @RequestBody VisitedPagesRequest request
     ) {
-        KeywordResponseDto result = keywordService.analyzeKeywords(accessToken, request);
+        KeywordResponseDto result = keywordService.analyzeKeywords(authUser, request);
         return ResponseEntity.ok(SuccessResponse.of(SuccessCode.KEYWORD_EXTRACTION_SUCCESS, result).getBody());
     }
 
     @GetMapping("/today/top9")
     @Operation(summary = "오늘의 키워드 상위 9개 조회", description = "현재 사용자의 오늘 날짜에 해당하는 상위 9개 키워드를 빈도수 순으로 조회합니다.")
     public ResponseEntity<SuccessResponse<List<KeywordFrequencyDto>>> getTop9KeywordsForToday(
-            @RequestHeader("Authorization") String accessToken
+            @LoginUser AuthUser authUser
     ) {
         // KeywordService의 getTopKeywordsForToday 메서드를 호출하여 상위 9개 키워드 목록을 가져옵니다.
-        List<KeywordFrequencyDto> topKeywords = keywordService.getTopKeywordsForToday(accessToken);
+        List<KeywordFrequencyDto> topKeywords = keywordService.getTopKeywordsForToday(authUser);
 
         return ResponseEntity.ok(SuccessResponse.of(SuccessCode.TOP_KEYWORDS_RETRIEVED_SUCCESS, topKeywords).getBody());
     }
+
+    @GetMapping("/trend")
+    @Operation(summary = "키워드 추이 조회",
+            description = "from~to 기간의 키워드 추이를 daily, weekly(월요일 시작), monthly 단위로 조회합니다. 기간 수는 최대 60개입니다.")
+    public ResponseEntity<SuccessResponse<KeywordTrendResponse>> getKeywordTrend(
+            @LoginUser AuthUser authUser,
+            @RequestParam("from") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate from,
+            @RequestParam("to") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate to,
+            @RequestParam(value = "granularity", defaultValue = "daily") String granularity
+    ) {
+        KeywordTrendResponse trend = keywordTrendService.getTrend(authUser, from, to, granularity);
+        return ResponseEntity.ok(SuccessResponse.of(SuccessCode.KEYWORD_TREND_RETRIEVED_SUCCESS, trend).getBody());
+    }
 }
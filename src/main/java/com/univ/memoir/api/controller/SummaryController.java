@@ -9,6 +9,8 @@ import org.springframework.web.bind.annotation.*;
 import com.univ.memoir.api.dto.res.MonthlySummaryResponse;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
 import com.univ.memoir.core.service.MonthlySummaryService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -26,10 +28,10 @@ public class SummaryController {
 	@GetMapping("/monthly/{date}")
 	@Operation(summary = "월별 요약 페이지", description = "월별 요약 페이지를 조회합니다.")
 	public ResponseEntity<SuccessResponse<MonthlySummaryResponse.Data>> getMonthlySummary(
-			@RequestHeader("Authorization") String accessToken,
+			@LoginUser AuthUser authUser,
 			@PathVariable("date") @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth
 	) {
-		MonthlySummaryResponse.Data data = monthlySummaryService.getMonthlySummary(accessToken ,yearMonth);
+		MonthlySummaryResponse.Data data = monthlySummaryService.getMonthlySummary(authUser,yearMonth);
 		return SuccessResponse.of(SuccessCode.MONTHLY_SUMMARY_OK, data);
 	}
 
@@ -1,10 +1,10 @@
 package com.univ.memoir.api.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -12,6 +12,8 @@ import com.univ.memoir.api.dto.req.UserInterestRequest;
 import com.univ.memoir.api.dto.res.UserProfileDto;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.LoginUser;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.service.UserService;
 
@@ -30,9 +32,9 @@ public class UserController {
     @GetMapping("/profile")
     @Operation(summary = "프로필 조회", description = "액세스 토큰을 기반으로 사용자 프로필을 조회합니다.")
     public ResponseEntity<?> getUserProfileByToken(
-            @RequestHeader("Authorization") String accessToken
+            @LoginUser AuthUser authUser
     ) {
-        User user = userService.findByAccessToken(accessToken);
+        User user = userService.getUser(authUser);
         return SuccessResponse.of(SuccessCode.USER_PROFILE_RETRIEVE_SUCCESS, new UserProfileDto(user));
     }
 
@@ -40,10 +42,19 @@ public class UserController {
     @PostMapping("/category")
     @Operation(summary = "관심사 카테고리 선택 ", description = "사용자 관심사 카테고리를 선택합니다.")
     public ResponseEntity<?> updateInterestsByToken(
-            @RequestHeader("Authorization") String accessToken,
+            @LoginUser AuthUser authUser,
             @RequestBody UserInterestRequest request
     ) {
-        User updatedUser = userService.updateUserInterestsByToken(accessToken, request.getInterests());
+        User updatedUser = userService.updateUserInterests(authUser, request.getInterests());
         return SuccessResponse.of(SuccessCode.UPDATED, new UserProfileDto(updatedUser));
     }
+
+    @DeleteMapping
+    @Operation(summary = "회원 탈퇴", description = "회원 탈퇴 후 발급된 토큰을 모두 폐기합니다.")
+    public ResponseEntity<?> withdraw(
+            @LoginUser AuthUser authUser
+    ) {
+        userService.withdraw(authUser);
+        return SuccessResponse.of(SuccessCode.USER_DELETED);
+    }
 }
\ No newline at end of file
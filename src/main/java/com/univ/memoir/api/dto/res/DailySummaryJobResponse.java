@@ -0,0 +1,16 @@
+package com.univ.memoir.api.dto.res;
+
+import com.univ.memoir.core.domain.DailySummaryJob;
+import com.univ.memoir.core.service.DailySummaryService;
+
+/**
+ * 일일 요약 작업 상태 - SUCCEEDED 일 때만 result, FAILED 일 때만 errorMessage 가 채워진다.
+ * 작업 ttl 이 지난 뒤의 result 는 그 날짜의 현재 요약이다. (DailySummaryJobService.get 참고)
+ */
+public record DailySummaryJobResponse(
+		String jobId,
+		DailySummaryJob.Status status,
+		String date,
+		DailySummaryService.DailySummaryResult result,
+		String errorMessage
+) {}
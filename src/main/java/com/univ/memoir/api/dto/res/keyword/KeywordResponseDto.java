@@ -15,4 +15,6 @@ import lombok.Setter;
 @AllArgsConstructor
 public class KeywordResponseDto {
     private List<KeywordFrequencyDto> keywordFrequencies;
+    // GPT 장애로 제목 단어 빈도로 추출한 결과
+    private boolean degraded;
 }
@@ -0,0 +1,23 @@
+package com.univ.memoir.api.dto.res.keyword;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.core.domain.KeywordTrendGranularity;
+
+/**
+ * 키워드 추이 - from/to 는 집계 단위 경계로 넓힌 실제 조회 구간
+ */
+public record KeywordTrendResponse(
+        KeywordTrendGranularity granularity,
+        LocalDate from,
+        LocalDate to,
+        List<KeywordFrequencyDto> topKeywords,
+        List<Period> periods
+) {
+    /**
+     * 기간별 상위 키워드 (데이터가 없는 기간은 빈 목록)
+     */
+    public record Period(LocalDate start, LocalDate end, List<KeywordFrequencyDto> keywords) {}
+}
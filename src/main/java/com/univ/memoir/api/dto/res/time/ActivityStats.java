@@ -13,4 +13,6 @@ public class ActivityStats {
     private int totalUsageTimeMinutes;
     private List<CategorySummary> categorySummaries;
     private List<HourlyBreakdown> hourlyActivityBreakdown;
+    // GPT 장애로 카테고리를 로컬 규칙으로 분류한 결과 (복구 후 다시 계산됨)
+    private boolean degraded;
 }
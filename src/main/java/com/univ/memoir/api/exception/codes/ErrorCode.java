@@ -12,6 +12,11 @@ public enum ErrorCode {
     /**
      *  400 Bad Request
      */
+    INVALID_KEYWORD_TREND_GRANULARITY(400, HttpStatus.BAD_REQUEST, "granularity는 daily, weekly, monthly 중 하나여야 합니다."),
+    INVALID_KEYWORD_TREND_RANGE(400, HttpStatus.BAD_REQUEST, "조회 시작일(from)은 종료일(to)보다 늦을 수 없습니다."),
+    INVALID_SUMMARY_DATE(400, HttpStatus.BAD_REQUEST, "date는 yyyy-MM-dd 형식이어야 합니다."),
+    EMPTY_VISITED_PAGES(400, HttpStatus.BAD_REQUEST, "방문 기록이 없습니다."),
+    KEYWORD_TREND_RANGE_TOO_LONG(400, HttpStatus.BAD_REQUEST, "조회 기간이 너무 깁니다. 기간을 줄이거나 weekly, monthly 단위로 조회해주세요."),
 
     // 인증 관련 오류
     UNAUTHORIZED(401, HttpStatus.UNAUTHORIZED, "접근할 수 있는 권한이 없습니다. 유효한 access token을 확인하세요."),
@@ -31,6 +36,7 @@ public enum ErrorCode {
     USER_NOT_FOUND(404, HttpStatus.NOT_FOUND, "요청한 유저를 찾을 수 없습니다. 회원가입을 확인하세요."),
     USER_NOT_FOUND_BY_ID(404, HttpStatus.NOT_FOUND, "해당 ID를 가진 유저를 찾을 수 없습니다."),
     NOT_SIGN_IN_GOOGLE_ID(404, HttpStatus.NOT_FOUND, "회원가입되지 않은 구글 계정입니다. 회원가입을 진행해 주세요."),
+    SUMMARY_JOB_NOT_FOUND(404, HttpStatus.NOT_FOUND, "요청한 요약 작업을 찾을 수 없습니다."),
 
     // 관련된 데이터가 없는 경우
 
@@ -48,6 +54,14 @@ public enum ErrorCode {
     DATABASE_CONNECTION_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR, "데이터베이스 연결에 실패했습니다. 잠시 후 다시 시도해주세요."),
     UNEXPECTED_ERROR(500, HttpStatus.INTERNAL_SERVER_ERROR, "예상치 못한 서버 오류가 발생했습니다. 관리자에게 문의하세요."),
 
+    /**
+     *  503 Service Unavailable
+     */
+    OPENAI_BUSY(503, HttpStatus.SERVICE_UNAVAILABLE, "AI 분석 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
+    OPENAI_UNAVAILABLE(503, HttpStatus.SERVICE_UNAVAILABLE, "AI 분석 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."),
+    SUMMARY_JOB_QUEUE_FULL(503, HttpStatus.SERVICE_UNAVAILABLE, "대기 중인 요약 작업이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    SUMMARY_STREAM_BUSY(503, HttpStatus.SERVICE_UNAVAILABLE, "진행 중인 요약 스트리밍이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
     /**
      *  200 OK (알림 및 상태 관련)
      */
@@ -17,6 +17,7 @@ public enum SuccessCode {
     BOOKMARK_RETRIEVE_SUCCESS(HttpStatus.OK,"북마크 조회에 성공했습니다."),
     USER_PROFILE_RETRIEVE_SUCCESS(HttpStatus.OK, "사용자 프로필 조회에 성공했습니다."),
     TOP_KEYWORDS_RETRIEVED_SUCCESS(HttpStatus.OK,"오늘의 키워드 조회에 성공했습니다."),
+    KEYWORD_TREND_RETRIEVED_SUCCESS(HttpStatus.OK, "키워드 추이 조회에 성공했습니다."),
 
     /**
      * 201 CREATED SUCCESS
@@ -32,6 +33,7 @@ public enum SuccessCode {
      * 202 ACCEPTED
      */
     ACCEPTED(HttpStatus.ACCEPTED, "요청이 성공적으로 처리되었습니다. 결과는 나중에 확인할 수 있습니다."),
+    SUMMARY_JOB_ACCEPTED(HttpStatus.ACCEPTED, "일일 요약 작업이 등록되었습니다. 작업 ID로 결과를 확인하세요."),
 
     /**
      * 204 NO CONTENT
@@ -44,6 +46,7 @@ public enum SuccessCode {
     NOTIFICATION_SENT(HttpStatus.OK, "알림이 성공적으로 전송되었습니다."),
     MONTHLY_SUMMARY_OK(HttpStatus.OK, "월별 활동 요약 조회 성공"),
     DAILY_POPUP_OK(HttpStatus.OK, "일별 활동 요약 조회 성공"),
+    SUMMARY_JOB_OK(HttpStatus.OK, "일일 요약 작업 상태 조회 성공"),
 
     /**
      * 204 NO CONTENT (Deletion Responses)
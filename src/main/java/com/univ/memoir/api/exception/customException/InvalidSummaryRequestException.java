@@ -0,0 +1,13 @@
+package com.univ.memoir.api.exception.customException;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidSummaryRequestException extends GlobalException {
+    public InvalidSummaryRequestException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
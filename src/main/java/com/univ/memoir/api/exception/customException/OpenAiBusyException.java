@@ -0,0 +1,13 @@
+package com.univ.memoir.api.exception.customException;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class OpenAiBusyException extends GlobalException {
+    public OpenAiBusyException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
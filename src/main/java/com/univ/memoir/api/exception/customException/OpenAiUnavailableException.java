@@ -0,0 +1,13 @@
+package com.univ.memoir.api.exception.customException;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class OpenAiUnavailableException extends GlobalException {
+    public OpenAiUnavailableException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
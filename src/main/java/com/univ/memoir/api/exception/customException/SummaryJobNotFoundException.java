@@ -0,0 +1,15 @@
+package com.univ.memoir.api.exception.customException;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class SummaryJobNotFoundException extends GlobalException{
+    public SummaryJobNotFoundException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
+
+
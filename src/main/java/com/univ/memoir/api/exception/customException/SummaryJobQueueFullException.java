@@ -0,0 +1,15 @@
+package com.univ.memoir.api.exception.customException;
+
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+
+import lombok.Getter;
+
+@Getter
+public class SummaryJobQueueFullException extends GlobalException{
+    public SummaryJobQueueFullException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+}
+
+
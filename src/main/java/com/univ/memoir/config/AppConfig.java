@@ -3,13 +3,14 @@ package com.univ.memoir.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
 public class AppConfig {
     @Bean
     @Primary
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ClientHttpRequestFactory pooledClientHttpRequestFactory) {
+        return new RestTemplate(pooledClientHttpRequestFactory);
     }
 }
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.univ.memoir.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * connect/read 타임아웃과 별개로 요청 전체에 마감 시간을 거는 요청 팩토리
+ * 마감 시간이 지나면 진행 중인 요청을 취소하여 커넥션을 반납한다.
+ * 응답을 닫거나 요청이 실패하면 예약된 취소도 함께 지워, 끝난 요청이 스케줄러 큐에 남지 않게 한다.
+ * 만든 요청은 현재 스레드의 RequestAbortScope 에도 등록하여, 헤지에 진 요청을 밖에서 끊을 수 있게 한다.
+ */
+class DeadlineClientHttpRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private final Duration deadline;
+    private final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+        Thread thread = new Thread(runnable, "http-deadline");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // createRequest → createHttpUriRequest 는 같은 스레드에서 이어서 호출된다.
+    private final ThreadLocal<Cancellable> createdRequest = new ThreadLocal<>();
+
+    DeadlineClientHttpRequestFactory(HttpClient httpClient, Duration deadline) {
+        super(httpClient);
+        this.deadline = deadline;
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    @Override
+    public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+        ClientHttpRequest request;
+        Cancellable cancellable;
+        try {
+            request = super.createRequest(uri, httpMethod);
+            cancellable = createdRequest.get();
+        } finally {
+            createdRequest.remove();
+        }
+        if (cancellable != null) {
+            RequestAbortScope.register(cancellable);
+        }
+        if (cancellable == null || deadline.isZero()) {
+            return request;
+        }
+        return new DeadlineRequest(request, cancellable);
+    }
+
+    @Override
+    protected ClassicHttpRequest createHttpUriRequest(HttpMethod httpMethod, URI uri) {
+        ClassicHttpRequest request = super.createHttpUriRequest(httpMethod, uri);
+        if (request instanceof Cancellable cancellable) {
+            createdRequest.set(cancellable);
+        }
+        return request;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        scheduler.shutdownNow();
+        super.destroy();
+    }
+
+    /**
+     * execute 시점부터 마감 시간을 재고, 실패하거나 응답을 닫으면 예약을 취소한다.
+     */
+    private class DeadlineRequest implements ClientHttpRequest {
+
+        private final ClientHttpRequest delegate;
+        private final Cancellable cancellable;
+
+        DeadlineRequest(ClientHttpRequest delegate, Cancellable cancellable) {
+            this.delegate = delegate;
+            this.cancellable = cancellable;
+        }
+
+        @Override
+        public ClientHttpResponse execute() throws IOException {
+            ScheduledFuture<?> timer =
+                    scheduler.schedule(cancellable::cancel, deadline.toMillis(), TimeUnit.MILLISECONDS);
+            try {
+                return new DeadlineResponse(delegate.execute(), timer);
+            } catch (IOException | RuntimeException e) {
+                timer.cancel(false);
+                throw e;
+            }
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpMethod getMethod() {
+            return delegate.getMethod();
+        }
+
+        @Override
+        public URI getURI() {
+            return delegate.getURI();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+    }
+
+    private static class DeadlineResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final ScheduledFuture<?> timer;
+
+        DeadlineResponse(ClientHttpResponse delegate, ScheduledFuture<?> timer) {
+            this.delegate = delegate;
+            this.timer = timer;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() throws IOException {
+            return delegate.getStatusCode();
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return delegate.getBody();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public void close() {
+            timer.cancel(false);
+            delegate.close();
+        }
+    }
+}
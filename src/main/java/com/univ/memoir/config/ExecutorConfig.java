@@ -0,0 +1,178 @@
+package com.univ.memoir.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 비동기 작업용 스레드 풀
+ * - categorizationExecutor: GPT 분할 호출용. 큐가 가득 차면 요청 스레드가 직접 실행(CallerRuns)하여 자연스럽게 속도를 늦춘다.
+ * - dailySummaryJobExecutor: 비동기 일일 요약 작업용. 큐가 가득 차면 등록을 거절(503)한다.
+ * - dailySummaryStreamExecutor: 일일 요약 SSE 스트리밍용. 작업 풀 뒤에 줄 서지 않도록 분리하고,
+ *   연결을 잡아 둔 채 기다리지 않도록 큐 없이 바로 실행하며 남는 스레드가 없으면 거절(503)한다.
+ * - summaryBlockExecutor: 긴 하루의 시간대별 요약 병렬 호출용. 요약 작업 스레드가 기다리므로 작업 풀과 분리하고, 큐가 가득 차면 CallerRuns.
+ * - gptRecoveryExecutor: 서킷 브레이커 복구 후 degraded 결과 재계산용. 복구 직후 GPT 에 몰리지 않도록 한 번에 하나씩 실행한다.
+ * - gptHedgeExecutor: GPT 헤징 호출용. 큐 없이 바로 실행하고, 스레드가 모자라면 거절하여 호출자가 헤징 없이 직접 호출한다.
+ * - keywordTaskExecutor: 키워드 저장 등 @Async 작업용. 큐가 가득 차면 CallerRuns 로 저장을 잃지 않고,
+ *   큐 길이(executor.queue.depth)와 거절 횟수(executor.rejected)를 지표로 남긴다.
+ * @Async 는 반드시 실행기 이름을 지정한다. (지정하지 않으면 스레드 수 제한이 없는 기본 실행기가 쓰인다)
+ */
+@Configuration
+@EnableAsync
+public class ExecutorConfig {
+
+    @Value("${page-category.executor.pool-size:8}")
+    private int poolSize;
+
+    @Value("${page-category.executor.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${daily-summary.job.pool-size:4}")
+    private int jobPoolSize;
+
+    @Value("${daily-summary.job.queue-capacity:100}")
+    private int jobQueueCapacity;
+
+    @Value("${daily-summary.stream.pool-size:4}")
+    private int streamPoolSize;
+
+    @Value("${daily-summary.block.pool-size:6}")
+    private int blockPoolSize;
+
+    @Value("${daily-summary.block.queue-capacity:32}")
+    private int blockQueueCapacity;
+
+    @Value("${openai.recovery.pool-size:1}")
+    private int recoveryPoolSize;
+
+    @Value("${openai.recovery.max-pending:1000}")
+    private int recoveryQueueCapacity;
+
+    @Value("${openai.hedging.pool-size:48}")
+    private int hedgePoolSize;
+
+    @Value("${keyword.executor.pool-size:2}")
+    private int keywordPoolSize;
+
+    @Value("${keyword.executor.queue-capacity:200}")
+    private int keywordQueueCapacity;
+
+    @Bean(name = "categorizationExecutor")
+    public ThreadPoolTaskExecutor categorizationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("categorize-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "dailySummaryJobExecutor")
+    public ThreadPoolTaskExecutor dailySummaryJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jobPoolSize);
+        executor.setMaxPoolSize(jobPoolSize);
+        executor.setQueueCapacity(jobQueueCapacity);
+        executor.setThreadNamePrefix("daily-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "dailySummaryStreamExecutor")
+    public ThreadPoolTaskExecutor dailySummaryStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamPoolSize);
+        executor.setMaxPoolSize(streamPoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("daily-stream-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "summaryBlockExecutor")
+    public ThreadPoolTaskExecutor summaryBlockExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(blockPoolSize);
+        executor.setMaxPoolSize(blockPoolSize);
+        executor.setQueueCapacity(blockQueueCapacity);
+        executor.setThreadNamePrefix("summary-block-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "gptRecoveryExecutor")
+    public ThreadPoolTaskExecutor gptRecoveryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(recoveryPoolSize);
+        executor.setMaxPoolSize(recoveryPoolSize);
+        executor.setQueueCapacity(recoveryQueueCapacity);
+        executor.setThreadNamePrefix("gpt-recovery-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "gptHedgeExecutor")
+    public ThreadPoolTaskExecutor gptHedgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hedgePoolSize);
+        executor.setMaxPoolSize(hedgePoolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("gpt-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = "keywordTaskExecutor")
+    public ThreadPoolTaskExecutor keywordTaskExecutor(MeterRegistry meterRegistry) {
+        String name = "keywordTaskExecutor";
+        Counter rejected = Counter.builder("executor.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+        RejectedExecutionHandler callerRuns = new ThreadPoolExecutor.CallerRunsPolicy();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(keywordPoolSize);
+        executor.setMaxPoolSize(keywordPoolSize);
+        executor.setQueueCapacity(keywordQueueCapacity);
+        executor.setThreadNamePrefix("keyword-task-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            callerRuns.rejectedExecution(task, pool);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        Gauge.builder("executor.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("name", name)
+                .register(meterRegistry);
+        return executor;
+    }
+}
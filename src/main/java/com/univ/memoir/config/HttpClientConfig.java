@@ -0,0 +1,99 @@
+package com.univ.memoir.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * RestTemplate 공용 HTTP 클라이언트 (Apache HttpClient 5 커넥션 풀)
+ * - keep-alive 커넥션을 재사용하여 GPT 호출마다 TLS 핸드셰이크가 발생하지 않도록 한다.
+ * - connect / read / 풀 대기 / 전체 마감 타임아웃을 각각 설정한다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.client.max-total:50}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:20}")
+    private int maxPerRoute;
+
+    @Value("${http.client.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${http.client.read-timeout:60s}")
+    private Duration readTimeout;
+
+    @Value("${http.client.pool-wait-timeout:5s}")
+    private Duration poolWaitTimeout;
+
+    @Value("${http.client.deadline:90s}")
+    private Duration deadline;
+
+    @Value("${http.client.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Value("${http.client.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpConnectionManager(MeterRegistry meterRegistry) {
+        Timer leaseWaitTimer = Timer.builder("http.client.pool.wait")
+                .description("커넥션 풀에서 커넥션을 얻기까지 대기한 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+
+        PooledConnectionManager connectionManager = new PooledConnectionManager(leaseWaitTimer);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(connectTimeout))
+                .setSocketTimeout(toTimeout(readTimeout))
+                .setTimeToLive(TimeValue.of(timeToLive.toMillis(), TimeUnit.MILLISECONDS))
+                .build());
+        return connectionManager;
+    }
+
+    @Bean
+    public MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "http-client");
+    }
+
+    @Bean
+    public CloseableHttpClient pooledHttpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(httpConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(toTimeout(poolWaitTimeout))
+                        .setResponseTimeout(toTimeout(readTimeout))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction.toMillis(), TimeUnit.MILLISECONDS))
+                .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory pooledClientHttpRequestFactory(CloseableHttpClient pooledHttpClient) {
+        return new DeadlineClientHttpRequestFactory(pooledHttpClient, deadline);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
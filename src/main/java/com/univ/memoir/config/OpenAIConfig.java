@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
@@ -15,8 +16,8 @@ public class OpenAIConfig {
     private String apiKey;
 
     @Bean
-    public RestTemplate openAiRestTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate openAiRestTemplate(ClientHttpRequestFactory pooledClientHttpRequestFactory) {
+        RestTemplate restTemplate = new RestTemplate(pooledClientHttpRequestFactory);
 
         ClientHttpRequestInterceptor authInterceptor = (request, body, execution) -> {
             request.getHeaders().add("Authorization", "Bearer " + apiKey);
@@ -0,0 +1,47 @@
+package com.univ.memoir.config;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.Timeout;
+
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 커넥션 풀에서 커넥션을 얻기까지 대기한 시간을 기록하는 커넥션 매니저
+ */
+class PooledConnectionManager extends PoolingHttpClientConnectionManager {
+
+    private final Timer leaseWaitTimer;
+
+    PooledConnectionManager(Timer leaseWaitTimer) {
+        this.leaseWaitTimer = leaseWaitTimer;
+    }
+
+    @Override
+    public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+        LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+        return new LeaseRequest() {
+            @Override
+            public ConnectionEndpoint get(Timeout timeout)
+                    throws InterruptedException, ExecutionException, TimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return delegate.get(timeout);
+                } finally {
+                    leaseWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            }
+
+            @Override
+            public boolean cancel() {
+                return delegate.cancel();
+            }
+        };
+    }
+}
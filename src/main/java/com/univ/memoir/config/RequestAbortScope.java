@@ -0,0 +1,67 @@
+package com.univ.memoir.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import org.apache.hc.core5.concurrent.Cancellable;
+
+/**
+ * 한 작업(예: GPT 헤지 시도)이 보낸 HTTP 요청을 밖에서 중단하기 위한 범위
+ * - run() 안에서 DeadlineClientHttpRequestFactory 로 만든 요청은 이 범위에 등록된다.
+ * - abort() 는 등록된 요청을 취소하여 커넥션을 닫는다. 블로킹 소켓 읽기는 인터럽트로 풀리지 않으므로 이 방법으로 끊는다.
+ * - abort() 뒤에 만들어진 요청은 등록 즉시 취소된다. run() 이 끝난 범위의 abort() 는 아무것도 하지 않는다.
+ */
+public final class RequestAbortScope {
+
+    private static final ThreadLocal<RequestAbortScope> CURRENT = new ThreadLocal<>();
+
+    private final List<Cancellable> requests = new CopyOnWriteArrayList<>();
+    private volatile boolean aborted;
+    private volatile boolean finished;
+
+    public <T> T run(Supplier<T> call) {
+        RequestAbortScope previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            finished = true;
+            requests.clear();
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public void abort() {
+        aborted = true;
+        if (finished) {
+            return;
+        }
+        for (Cancellable request : requests) {
+            request.cancel();
+        }
+    }
+
+    /**
+     * 현재 스레드의 범위가 abort 되었는지 (중단된 호출을 실패로 세지 않기 위해)
+     */
+    public static boolean isCurrentAborted() {
+        RequestAbortScope scope = CURRENT.get();
+        return scope != null && scope.aborted;
+    }
+
+    static void register(Cancellable request) {
+        RequestAbortScope scope = CURRENT.get();
+        if (scope == null) {
+            return;
+        }
+        scope.requests.add(request);
+        if (scope.aborted) {
+            request.cancel();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.univ.memoir.config.jwt;
+
+import java.time.Instant;
+
+import com.univ.memoir.core.domain.InterestType;
+import com.univ.memoir.core.domain.UserSnapshot;
+
+/**
+ * JwtAuthenticationFilter 가 토큰을 한 번 검증한 뒤 발행하는 인증 주체
+ * 컨트롤러/서비스는 Authorization 헤더 대신 이 값을 전달받는다.
+ */
+public record AuthUser(
+        Long id,
+        String email,
+        String status,
+        int interestsMask,
+        Instant expiresAt
+) {
+
+    public static AuthUser of(UserSnapshot snapshot, Instant expiresAt) {
+        return new AuthUser(snapshot.id(), snapshot.email(), snapshot.status(), snapshot.interestsMask(), expiresAt);
+    }
+
+    public boolean isActive() {
+        return "N".equals(status);
+    }
+
+    public boolean hasInterest(InterestType interestType) {
+        return (interestsMask & interestType.mask()) != 0;
+    }
+}
@@ -7,17 +7,15 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import com.univ.memoir.core.domain.User;
-
 import lombok.Getter;
 
 @Getter
 public class CustomUserDetails implements UserDetails {
 
-    private final User user;
+    private final AuthUser authUser;
 
-    public CustomUserDetails(User user) {
-        this.user = user;
+    public CustomUserDetails(AuthUser authUser) {
+        this.authUser = authUser;
     }
 
     @Override
@@ -32,7 +30,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return authUser.email();
     }
 
     @Override
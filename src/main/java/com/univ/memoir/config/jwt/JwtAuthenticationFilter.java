@@ -29,9 +29,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse servletResponse,
                                     FilterChain filterChain) throws ServletException, IOException {
         String token = jwtProvider.resolveToken(servletRequest);
-        if (token != null && jwtProvider.validateToken(token)) {
+        if (token != null) {
+            // 검증과 사용자 조회는 요청당 한 번만 수행하고, 이후에는 AuthUser 로 전달
             Authentication authentication = jwtProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
         filterChain.doFilter(servletRequest, servletResponse);
     }
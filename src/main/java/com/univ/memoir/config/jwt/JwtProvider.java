@@ -3,43 +3,63 @@ package com.univ.memoir.config.jwt;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
 import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.domain.UserSnapshot;
 import com.univ.memoir.core.repository.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
-public class JwtProvider {
+public class JwtProvider implements MeterBinder {
 
     @Value("${spring.security.jwt.secret}")
     private String secretKey;
 
+    @Value("${spring.security.jwt.cache-max-size:10000}")
+    private int tokenCacheMaxSize;
+
+    // uid 클레임 도입 이전의 이메일 subject 토큰 허용 여부 (전환 기간 이후 false)
+    @Value("${spring.security.jwt.accept-email-subject:true}")
+    private boolean acceptEmailSubject;
+
     private static final long ACCESS_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7;
     private static final long REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 180;
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String USER_ID_CLAIM = "uid";
 
     private Key key;
+    private JwtParser jwtParser;
+    private VerifiedTokenCache tokenCache;
 
     private final UserRepository userRepository;
+    private final TokenVersionStore tokenVersionStore;
 
     @PostConstruct
     protected void init() {
         byte[] keyBytes = secretKey.trim().getBytes(StandardCharsets.UTF_8);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.tokenCache = new VerifiedTokenCache(tokenCacheMaxSize);
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -51,59 +71,120 @@ public class JwtProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    /**
+     * 서명/만료 검증과 클레임 파싱을 한 번에 수행 (유효하지 않으면 null)
+     * 이미 검증한 토큰은 exp 전까지 캐시된 클레임을 재사용하여 HMAC 검증을 생략한다.
+     */
+    public Claims parseClaims(String token) {
+        Claims cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            tokenCache.put(token, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
         }
     }
 
-    public String createAccessToken(String email) {
+    public VerifiedTokenCache.Stats getTokenCacheStats() {
+        return tokenCache.stats();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("jwt.token.cache.requests", this, provider -> provider.getTokenCacheStats().hits())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jwt.token.cache.requests", this, provider -> provider.getTokenCacheStats().misses())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jwt.token.cache.evictions", this, provider -> provider.getTokenCacheStats().evictions())
+                .register(registry);
+        Gauge.builder("jwt.token.cache.size", this, provider -> provider.getTokenCacheStats().size())
+                .register(registry);
+    }
+
+    public String createAccessToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + ACCESS_TOKEN_EXPIRATION);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String createRefreshToken(String email) {
+    public String createRefreshToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + REFRESH_TOKEN_EXPIRATION);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(user.getEmail())
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * 사용자 PK 클레임 (uid 도입 이전에 발급된 토큰은 null)
+     */
+    public Long getUserId(Claims claims) {
+        Number userId = claims.get(USER_ID_CLAIM, Number.class);
+        return userId == null ? null : userId.longValue();
+    }
+
+    /**
+     * 토큰 버전 클레임 (버전 도입 이전에 발급된 토큰은 0)
+     */
+    public int getTokenVersion(Claims claims) {
+        Integer version = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        return version == null ? 0 : version;
+    }
 
-    public String getEmailFromToken(String token) {
-        if (token.startsWith("Bearer ")) {
-            token = token.substring(7).trim();
-        } else {
-            token = token.trim();
+    /**
+     * 토큰을 한 번만 검증하고 인증 주체를 만든다.
+     * 토큰이 유효하지 않거나, 사용자가 없거나, 로그아웃/탈퇴로 폐기된 토큰이면 null
+     */
+    public Authentication getAuthentication(String token) {
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
         }
 
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return findSnapshot(claims)
+                .filter(snapshot -> tokenVersionStore.isCurrent(snapshot.id(), getTokenVersion(claims)))
+                .map(snapshot -> toAuthentication(snapshot, claims))
+                .orElse(null);
     }
 
-    public Authentication getAuthentication(String token) {
-        String email = getEmailFromToken(token);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
-        UserDetails userDetails = new CustomUserDetails(user);
+    private Optional<UserSnapshot> findSnapshot(Claims claims) {
+        Long userId = getUserId(claims);
+        if (userId != null) {
+            return userRepository.findSnapshotById(userId);
+        }
+        if (acceptEmailSubject) {
+            return userRepository.findSnapshotByEmail(claims.getSubject());
+        }
+        return Optional.empty();
+    }
+
+    private Authentication toAuthentication(UserSnapshot snapshot, Claims claims) {
+        AuthUser authUser = AuthUser.of(snapshot, claims.getExpiration().toInstant());
+        CustomUserDetails userDetails = new CustomUserDetails(authUser);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
 }
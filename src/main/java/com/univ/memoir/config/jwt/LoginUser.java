@@ -0,0 +1,17 @@
+package com.univ.memoir.config.jwt;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import io.swagger.v3.oas.annotations.Parameter;
+
+/**
+ * 현재 인증된 사용자({@link AuthUser})를 컨트롤러 파라미터로 주입
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Parameter(hidden = true)
+public @interface LoginUser {
+}
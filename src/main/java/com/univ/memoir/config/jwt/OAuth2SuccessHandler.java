@@ -6,11 +6,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import com.univ.memoir.core.domain.User;
-import com.univ.memoir.core.repository.UserRepository;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,25 +19,20 @@ import lombok.RequiredArgsConstructor;
 public class OAuth2SuccessHandler implements AuthenticationSuccessHandler {
 
     private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
 
     @Value("${oauth2.redirect-uri.githubpages}")
     private String githubPagesRedirectUri;
 
     @Override
-    @Transactional
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
 
         CustomOAuth2User customOAuth2User = (CustomOAuth2User) authentication.getPrincipal();
         User user = customOAuth2User.getUser();
-        String email = user.getEmail();
 
-        String accessToken = jwtProvider.createAccessToken(email);
-        String refreshToken = jwtProvider.createRefreshToken(email);
-
-        user.updateAccessToken(accessToken);
-        userRepository.save(user);
+        // 토큰 원문은 저장하지 않고, 현재 토큰 버전만 클레임으로 담는다
+        String accessToken = jwtProvider.createAccessToken(user);
+        String refreshToken = jwtProvider.createRefreshToken(user);
 
         Boolean isNewUserAttr = customOAuth2User.getAttribute("isNewUser");
         boolean isNewUser = Boolean.TRUE.equals(isNewUserAttr);
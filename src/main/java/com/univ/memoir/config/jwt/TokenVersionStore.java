@@ -0,0 +1,53 @@
+package com.univ.memoir.config.jwt;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.univ.memoir.core.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자별 토큰 버전 테이블 (메모리)
+ * - DB의 user.token_version 이 원본이며, 최초 조회 시 한 번만 읽어와 보관한다.
+ * - 로그아웃/탈퇴 시 커밋 이후 갱신되어, 요청마다 DB 비교 없이 맵 조회로 폐기 여부를 판단한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenVersionStore {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return currentVersion(userId) == tokenVersion;
+    }
+
+    public int currentVersion(Long userId) {
+        Integer version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+
+        int loaded = userRepository.findTokenVersionById(userId).orElse(0);
+        // 동시에 갱신된 값이 있다면 더 큰 버전을 유지
+        return versions.merge(userId, loaded, Math::max);
+    }
+
+    public void update(Long userId, int version) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.merge(userId, version, Math::max);
+                }
+            });
+            return;
+        }
+        versions.merge(userId, version, Math::max);
+    }
+}
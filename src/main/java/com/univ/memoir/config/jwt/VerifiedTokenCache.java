@@ -0,0 +1,100 @@
+package com.univ.memoir.config.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임 캐시
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+ * - 토큰의 exp 가 지난 엔트리는 조회 시점에 제거
+ * - 최대 크기를 넘으면 가장 오래 사용되지 않은 엔트리부터 제거 (LRU)
+ */
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Claims> entries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {
+                if (size() > VerifiedTokenCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    Claims get(String token) {
+        String key = digest(token);
+        long now = System.currentTimeMillis();
+
+        synchronized (entries) {
+            Claims claims = entries.get(key);
+            if (claims == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (isExpired(claims, now)) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return claims;
+        }
+    }
+
+    void put(String token, Claims claims) {
+        // 만료 시각이 없는 토큰은 언제 제거해야 할지 알 수 없으므로 캐시하지 않음
+        if (maxSize <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        String key = digest(token);
+        synchronized (entries) {
+            entries.put(key, claims);
+        }
+    }
+
+    Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), size);
+    }
+
+    private boolean isExpired(Claims claims, long now) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.getTime() <= now;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+}
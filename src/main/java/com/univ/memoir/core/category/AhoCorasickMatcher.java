@@ -0,0 +1,94 @@
+package com.univ.memoir.core.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.Consumer;
+
+/**
+ * 여러 키워드를 제목 한 번 순회로 찾는 Aho-Corasick 오토마톤 (대소문자 무시)
+ * 한 번 만든 뒤에는 읽기 전용이므로 여러 스레드에서 동시에 사용할 수 있다.
+ */
+class AhoCorasickMatcher<V> {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<V>> outputs = new ArrayList<>();
+    private int[] failure;
+
+    AhoCorasickMatcher(Map<String, V> patterns) {
+        newNode();
+        patterns.forEach(this::insert);
+        buildFailureLinks();
+    }
+
+    /**
+     * 텍스트에 등장하는 모든 패턴의 값을 전달 (같은 패턴이 여러 번 나오면 여러 번 전달)
+     */
+    void forEachMatch(String text, Consumer<V> consumer) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int state = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure[state];
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+            for (V value : outputs.get(state)) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void insert(String pattern, V value) {
+        String lower = pattern.toLowerCase(Locale.ROOT);
+        if (lower.isEmpty()) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(value);
+    }
+
+    private void buildFailureLinks() {
+        failure = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+                queue.add(child);
+
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(c);
+                failure[child] = target == null || target == child ? 0 : target;
+                outputs.get(child).addAll(outputs.get(failure[child]));
+            }
+        }
+    }
+}
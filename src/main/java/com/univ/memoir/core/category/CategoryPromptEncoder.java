@@ -0,0 +1,166 @@
+package com.univ.memoir.core.category;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+
+/**
+ * 카테고리 분류 프롬프트 인코딩 / 응답 디코딩
+ * - 입력: 한 줄에 "번호|호스트/짧은 경로|제목" (제목은 잘라서 보내고, 앞에서 나온 제목과 같으면 "=번호" 로 대신한다)
+ * - 출력: 한 줄에 "번호 코드" (코드는 PageCategory 의 한 글자 코드)
+ * 제목/URL 을 다시 받지 않으므로 출력 토큰이 항목당 몇 개로 줄어든다.
+ */
+public final class CategoryPromptEncoder {
+
+    static final int MAX_TITLE_LENGTH = 60;
+    static final int MAX_PATH_LENGTH = 30;
+
+    private static final String INSTRUCTION = buildInstruction();
+
+    private CategoryPromptEncoder() {
+    }
+
+    public static String encode(List<VisitedPageForTimeDto> pages, List<Integer> indices) {
+        StringBuilder sb = new StringBuilder(INSTRUCTION.length() + indices.size() * 64).append(INSTRUCTION);
+        Map<String, Integer> seenTitles = new HashMap<>();
+
+        for (int index : indices) {
+            VisitedPageForTimeDto page = pages.get(index);
+            String title = shortTitle(page.getTitle());
+            sb.append(index).append('|').append(shortUrl(page.getUrl())).append('|');
+
+            Integer sameAs = title.isEmpty() ? null : seenTitles.putIfAbsent(title, index);
+            if (sameAs != null) {
+                sb.append('=').append(sameAs);
+            } else {
+                sb.append(title);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * "번호 코드" 줄들을 번호 → 카테고리로 변환 (형식이 맞지 않는 줄은 무시)
+     */
+    public static Map<Integer, PageCategory> decode(String content) {
+        Map<Integer, PageCategory> result = new HashMap<>();
+        if (content == null) {
+            return result;
+        }
+
+        int i = 0;
+        int length = content.length();
+        while (i < length) {
+            // 번호
+            while (i < length && !Character.isDigit(content.charAt(i))) {
+                if (content.charAt(i) == '\n') {
+                    break;
+                }
+                i++;
+            }
+            int index = -1;
+            while (i < length && Character.isDigit(content.charAt(i))) {
+                index = (index < 0 ? 0 : index * 10) + (content.charAt(i) - '0');
+                i++;
+            }
+            // 코드 (같은 줄의 첫 글자)
+            PageCategory category = null;
+            while (i < length && content.charAt(i) != '\n') {
+                char c = content.charAt(i++);
+                if (category == null && index >= 0 && Character.isLetter(c)) {
+                    category = PageCategory.fromCode(c);
+                    if (category == null) {
+                        break;
+                    }
+                }
+            }
+            if (index >= 0 && category != null) {
+                result.put(index, category);
+            }
+            // 다음 줄로
+            while (i < length && content.charAt(i) != '\n') {
+                i++;
+            }
+            i++;
+        }
+        return result;
+    }
+
+    /**
+     * 스킴/www./쿼리/fragment 를 뺀 "호스트/경로" (경로는 MAX_PATH_LENGTH 자까지)
+     */
+    static String shortUrl(String url) {
+        if (url == null) {
+            return "";
+        }
+        String s = url;
+        int scheme = s.indexOf("://");
+        if (scheme >= 0) {
+            s = s.substring(scheme + 3);
+        }
+        int cut = s.length();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '?' || c == '#') {
+                cut = i;
+                break;
+            }
+        }
+        s = s.substring(0, cut);
+        if (s.startsWith("www.")) {
+            s = s.substring(4);
+        }
+
+        int slash = s.indexOf('/');
+        if (slash >= 0 && s.length() - slash > MAX_PATH_LENGTH) {
+            s = s.substring(0, slash + MAX_PATH_LENGTH);
+        }
+        while (s.endsWith("/")) {
+            s = s.substring(0, s.length() - 1);
+        }
+        return sanitize(s);
+    }
+
+    static String shortTitle(String title) {
+        if (title == null) {
+            return "";
+        }
+        String s = sanitize(title).trim();
+        return s.length() > MAX_TITLE_LENGTH ? s.substring(0, MAX_TITLE_LENGTH) : s;
+    }
+
+    /**
+     * 구분자로 쓰는 '|' 와 줄바꿈 제거
+     */
+    private static String sanitize(String s) {
+        StringBuilder sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '|' || c == '\n' || c == '\r') {
+                if (sb == null) {
+                    sb = new StringBuilder(s.length()).append(s, 0, i);
+                }
+                sb.append(' ');
+            } else if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return sb == null ? s : sb.toString();
+    }
+
+    private static String buildInstruction() {
+        StringBuilder sb = new StringBuilder("방문 기록을 아래 카테고리 코드 중 하나로 분류하세요.\n");
+        for (PageCategory category : PageCategory.values()) {
+            sb.append(category.getCode()).append('=').append(category.getLabel())
+                    .append(" (").append(category.getExamples()).append(")\n");
+        }
+        return sb.append("""
+                입력은 한 줄에 "번호|주소|제목" 입니다. 제목이 "=번호" 이면 그 번호의 제목과 같습니다.
+                각 입력 줄마다 "번호 코드" 한 줄만 출력하세요. 다른 텍스트는 출력하지 마세요. 예) 0 S
+
+                """).toString();
+    }
+}
@@ -0,0 +1,55 @@
+package com.univ.memoir.core.category;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 도메인 라벨을 뒤에서부터 저장하는 트라이 (com → github → gist)
+ * 호스트의 가장 긴 접미 도메인에 등록된 값을 찾는다. 예: console.aws.amazon.com 은 amazon.com 보다 aws.amazon.com 규칙이 우선
+ */
+class DomainTrie<V> {
+
+    private final Node<V> root = new Node<>();
+
+    void put(String domain, V value) {
+        String[] labels = domain.toLowerCase(Locale.ROOT).split("\\.");
+        Node<V> node = root;
+        for (int i = labels.length - 1; i >= 0; i--) {
+            if (labels[i].isEmpty()) {
+                continue;
+            }
+            node = node.children.computeIfAbsent(labels[i], k -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    /**
+     * 가장 길게 일치하는 도메인의 값 (없으면 null)
+     */
+    V findLongestMatch(String host) {
+        if (host == null || host.isEmpty()) {
+            return null;
+        }
+        Node<V> node = root;
+        V match = null;
+        int end = host.length();
+        while (end > 0) {
+            int start = host.lastIndexOf('.', end - 1) + 1;
+            node = node.children.get(host.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null) {
+                match = node.value;
+            }
+            end = start - 1;
+        }
+        return match;
+    }
+
+    private static final class Node<V> {
+        private final Map<String, Node<V>> children = new HashMap<>();
+        private V value;
+    }
+}
@@ -0,0 +1,43 @@
+package com.univ.memoir.core.category;
+
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * 방문 페이지 카테고리 - GPT 프롬프트/응답에서는 한 글자 코드로 주고받는다.
+ */
+@Getter
+public enum PageCategory {
+    STUDY('S', "공부, 학습", "GitHub, Stack Overflow, 기술 문서, 온라인 강의, 코딩 문제"),
+    NEWS('N', "뉴스, 정보 탐색", "뉴스, 기술 뉴스, LinkedIn"),
+    CONTENT('C', "콘텐츠 소비", "유튜브, 넷플릭스, 인스타그램, 트위터 등 SNS/미디어"),
+    SHOPPING('P', "쇼핑", "쿠팡, 11번가, 아마존 등 쇼핑몰"),
+    WORK('W', "업무, 프로젝트", "Google Docs, Notion, Slack, Jira, AWS 콘솔");
+
+    public static final List<String> LABELS = Arrays.stream(values()).map(PageCategory::getLabel).toList();
+
+    private final char code;
+    private final String label;
+    private final String examples;
+
+    PageCategory(char code, String label, String examples) {
+        this.code = code;
+        this.label = label;
+        this.examples = examples;
+    }
+
+    /**
+     * 코드에 해당하는 카테고리 (대소문자 무시, 없으면 null)
+     */
+    public static PageCategory fromCode(char code) {
+        char upper = Character.toUpperCase(code);
+        for (PageCategory category : values()) {
+            if (category.code == upper) {
+                return category;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,456 @@
+package com.univ.memoir.core.category;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
+import com.univ.memoir.api.exception.customException.OpenAiUnavailableException;
+import com.univ.memoir.core.domain.PageCategoryCache;
+import com.univ.memoir.core.openai.OpenAiGateway;
+import com.univ.memoir.core.openai.OpenAiUseCase;
+import com.univ.memoir.core.repository.PageCategoryCacheRepository;
+import com.univ.memoir.core.repository.PageCategoryCacheUpsertRepository;
+import com.univ.memoir.core.support.ContentHash;
+import com.univ.memoir.core.support.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 방문 페이지 카테고리 분류 (시간 분석 / 일일 요약 공용)
+ * 1. 규칙 기반 분류(신뢰도 기준 이상) → 2. 인메모리 캐시 → 3. page_category_cache 테이블 → 4. GPT 순서로 조회
+ * - 인메모리 캐시는 Caffeine 으로 max-size 를 넘으면 덜 쓰이는 항목부터 빼고, 테이블 행이 갱신된 지 ttl 이 지나면 만료된다.
+ * - URL 캐시가 없으면, 같은 카테고리로 domain-min-samples 번 이상 분류된 도메인의 결과로 대신한다.
+ * - 캐시에 없는 페이지만 PageClusterer 로 묶어 대표만 GPT 에 보내고, 결과는 구성원 전체의 응답에 적용한다.
+ *   캐시에는 대표의 URL 만 저장하고 도메인 표본도 묶음당 한 번만 센다. (구성원은 GPT 가 확인한 결과가 아님)
+ */
+@Slf4j
+@Service
+public class PageCategoryService {
+
+    public static final List<String> VALID_CATEGORIES = PageCategory.LABELS;
+
+    public static final String DEFAULT_CATEGORY = PageCategory.CONTENT.getLabel();
+
+    private static final int DB_LOOKUP_CHUNK_SIZE = 500;
+
+    private final OpenAiGateway openAiGateway;
+    private final RuleBasedClassifier ruleBasedClassifier;
+    private final PageClusterer pageClusterer;
+    private final PageCategoryCacheRepository cacheRepository;
+    private final MeterRegistry meterRegistry;
+    private final Executor categorizationExecutor;
+    private final int domainMinSamples;
+    private final int chunkSize;
+    private final int chunkRetries;
+    private final Duration ttl;
+    private final Cache<String, CachedCategory> memoryCache;
+    private final SingleFlight<String, Categorization> inFlightCategorizations = new SingleFlight<>("page-category");
+
+    public PageCategoryService(OpenAiGateway openAiGateway,
+                               RuleBasedClassifier ruleBasedClassifier,
+                               PageClusterer pageClusterer,
+                               PageCategoryCacheRepository cacheRepository,
+                               MeterRegistry meterRegistry,
+                               @Qualifier("categorizationExecutor") Executor categorizationExecutor,
+                               @Value("${page-category.cache.max-size:20000}") int maxSize,
+                               @Value("${page-category.cache.ttl:P30D}") Duration ttl,
+                               @Value("${page-category.domain-min-samples:3}") int domainMinSamples,
+                               @Value("${page-category.chunk-size:40}") int chunkSize,
+                               @Value("${page-category.chunk-retries:1}") int chunkRetries) {
+        this.openAiGateway = openAiGateway;
+        this.ruleBasedClassifier = ruleBasedClassifier;
+        this.pageClusterer = pageClusterer;
+        this.cacheRepository = cacheRepository;
+        this.meterRegistry = meterRegistry;
+        this.categorizationExecutor = categorizationExecutor;
+        this.domainMinSamples = domainMinSamples;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.chunkRetries = Math.max(0, chunkRetries);
+        this.ttl = ttl;
+        // 메모리에 올린 시점이 아니라 테이블 행의 updatedAt 기준으로 만료 (DB 정리 작업과 같은 시점에 사라지도록)
+        this.memoryCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, CachedCategory>() {
+                    @Override
+                    public long expireAfterCreate(String key, CachedCategory cached, long currentTime) {
+                        return remainingNanos(cached);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, CachedCategory cached, long currentTime,
+                                                  long currentDuration) {
+                        return remainingNanos(cached);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, CachedCategory cached, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memoryCache, "pageCategoryMemoryCache");
+    }
+
+    /**
+     * 페이지 목록과 같은 순서의 카테고리 목록을 반환
+     * 같은 (제목, URL) 목록에 대한 분류가 진행 중이면 (시간 분석과 일일 요약이 동시에 요청된 경우 등) 그 결과를 함께 사용한다.
+     * GPT 서킷 브레이커가 열려 있으면 캐시에 없는 페이지는 규칙 기반(신뢰도 무관) 분류로 채우고 degraded 로 표시한다.
+     */
+    public Categorization categorize(List<VisitedPageForTimeDto> pages) {
+        StringBuilder content = new StringBuilder();
+        for (VisitedPageForTimeDto page : pages) {
+            content.append(page.getTitle()).append('\0').append(page.getUrl()).append('\n');
+        }
+        return inFlightCategorizations.execute(ContentHash.sha256(content.toString()), () -> doCategorize(pages));
+    }
+
+    private Categorization doCategorize(List<VisitedPageForTimeDto> pages) {
+        int size = pages.size();
+        String[] categories = new String[size];
+        String[] urlKeys = new String[size];
+        String[] domainKeys = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            String url = pages.get(i).getUrl();
+            urlKeys[i] = PageUrlNormalizer.urlKey(url);
+            domainKeys[i] = PageUrlNormalizer.domainKey(url);
+        }
+
+        // 1. 규칙 기반 분류 → 2. 인메모리 LRU
+        Set<String> dbKeys = new LinkedHashSet<>();
+        int ruleHits = 0;
+        int memoryHits = 0;
+        for (int i = 0; i < size; i++) {
+            VisitedPageForTimeDto page = pages.get(i);
+            categories[i] = ruleBasedClassifier.classifyConfident(page.getTitle(), page.getUrl());
+            if (categories[i] != null) {
+                ruleHits++;
+                continue;
+            }
+            categories[i] = resolve(memoryGet(urlKeys[i]), memoryGet(domainKeys[i]));
+            if (categories[i] != null) {
+                memoryHits++;
+                continue;
+            }
+            addIfAbsentInMemory(dbKeys, urlKeys[i]);
+            addIfAbsentInMemory(dbKeys, domainKeys[i]);
+        }
+
+        // 3. DB 캐시
+        int dbHits = 0;
+        if (!dbKeys.isEmpty()) {
+            loadFromDatabase(dbKeys);
+            for (int i = 0; i < size; i++) {
+                if (categories[i] == null) {
+                    categories[i] = resolve(memoryGet(urlKeys[i]), memoryGet(domainKeys[i]));
+                    if (categories[i] != null) {
+                        dbHits++;
+                    }
+                }
+            }
+        }
+
+        // 4. GPT - 같은 URL / 비슷한 제목의 페이지는 대표 하나만 질의
+        List<Integer> misses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (categories[i] == null) {
+                misses.add(i);
+            }
+        }
+
+        List<PageClusterer.Cluster> clusters = List.of();
+        boolean degraded = false;
+        if (!misses.isEmpty()) {
+            clusters = pageClusterer.cluster(misses,
+                    i -> pages.get(i).getUrl(), i -> pages.get(i).getTitle());
+            List<VisitedPageForTimeDto> missPages = new ArrayList<>(clusters.size());
+            for (PageClusterer.Cluster cluster : clusters) {
+                missPages.add(pages.get(misses.get(cluster.representative())));
+            }
+
+            GptCategories fetched = fetchFromGpt(missPages);
+            degraded = fetched.unavailable();
+            List<Classified> toStore = new ArrayList<>();
+            for (int c = 0; c < clusters.size(); c++) {
+                String category = fetched.categories().get(c);
+                String fallback = category != null ? category : classifyLocally(missPages.get(c));
+                for (int member : clusters.get(c).members()) {
+                    categories[misses.get(member)] = fallback;
+                }
+
+                // GPT 가 본 것은 대표뿐이므로, 캐시와 도메인 표본에는 대표 한 건만 남긴다.
+                int representative = misses.get(clusters.get(c).representative());
+                if (category != null && urlKeys[representative] != null) {
+                    toStore.add(new Classified(urlKeys[representative], domainKeys[representative], category));
+                }
+            }
+            store(toStore);
+        }
+
+        count("rule", ruleHits);
+        count("memory", memoryHits);
+        count("database", dbHits);
+        count("gpt", size - ruleHits - memoryHits - dbHits);
+        log.debug("카테고리 분류 - 전체: {}, 규칙: {}, 메모리: {}, DB: {}, GPT 질의: {}",
+                size, ruleHits, memoryHits, dbHits, clusters.size());
+
+        return new Categorization(List.of(categories), degraded);
+    }
+
+    /**
+     * GPT 결과가 없을 때의 로컬 분류 - 신뢰도와 관계없이 규칙 점수가 가장 높은 카테고리, 없으면 기본값
+     */
+    private String classifyLocally(VisitedPageForTimeDto page) {
+        RuleBasedClassifier.Classification classification =
+                ruleBasedClassifier.classify(page.getTitle(), page.getUrl());
+        return classification != null ? classification.category() : DEFAULT_CATEGORY;
+    }
+
+    private String resolve(CachedCategory url, CachedCategory domain) {
+        if (url != null) {
+            return url.category();
+        }
+        if (domain != null && domain.samples() >= domainMinSamples) {
+            return domain.category();
+        }
+        return null;
+    }
+
+    private void addIfAbsentInMemory(Set<String> keys, String key) {
+        if (key != null && memoryGet(key) == null) {
+            keys.add(key);
+        }
+    }
+
+    private void loadFromDatabase(Collection<String> keys) {
+        List<String> keyList = new ArrayList<>(keys);
+        try {
+            for (int from = 0; from < keyList.size(); from += DB_LOOKUP_CHUNK_SIZE) {
+                List<String> chunk = keyList.subList(from, Math.min(from + DB_LOOKUP_CHUNK_SIZE, keyList.size()));
+                for (PageCategoryCache entry : cacheRepository.findAllByCacheKeyIn(chunk)) {
+                    memoryPut(entry);
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("카테고리 캐시 조회 실패 - GPT 로 분류합니다. {}", e.getMessage());
+        }
+    }
+
+    /**
+     * URL 분류 결과와 그에 따른 도메인 통계를 저장 (실패해도 분류 결과는 그대로 반환)
+     * 행 단위 upsert 후 다시 읽어, 동시 요청의 갱신까지 반영된 samples 를 메모리에 둔다.
+     */
+    private void store(List<Classified> classified) {
+        if (classified.isEmpty()) {
+            return;
+        }
+
+        List<PageCategoryCacheUpsertRepository.Entry> entries = new ArrayList<>();
+        List<PageCategoryCacheUpsertRepository.Entry> domainEntries = new ArrayList<>();
+        Set<String> keys = new LinkedHashSet<>();
+        for (Classified c : classified) {
+            entries.add(new PageCategoryCacheUpsertRepository.Entry(
+                    c.urlKey(), PageCategoryCache.KeyType.URL, c.category()));
+            keys.add(c.urlKey());
+            if (c.domainKey() != null) {
+                domainEntries.add(new PageCategoryCacheUpsertRepository.Entry(
+                        c.domainKey(), PageCategoryCache.KeyType.DOMAIN, c.category()));
+                keys.add(c.domainKey());
+            }
+        }
+        entries.addAll(domainEntries);
+
+        try {
+            cacheRepository.upsertAll(entries);
+            for (PageCategoryCache entry : cacheRepository.findAllByCacheKeyIn(keys)) {
+                memoryPut(entry);
+            }
+        } catch (DataAccessException e) {
+            log.warn("카테고리 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * ttl 동안 다시 분류되지 않은 캐시 행 삭제 (사용자 공용 테이블이 계속 커지지 않도록)
+     */
+    @Scheduled(fixedDelayString = "${page-category.cache.cleanup-interval:PT1H}")
+    public void evictExpired() {
+        try {
+            int deleted = cacheRepository.deleteAllUpdatedBefore(LocalDateTime.now().minus(ttl));
+            if (deleted > 0) {
+                log.info("만료된 카테고리 캐시 삭제: {}건", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("만료된 카테고리 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private CachedCategory memoryGet(String key) {
+        if (key == null) {
+            return null;
+        }
+        return memoryCache.getIfPresent(key);
+    }
+
+    private long remainingNanos(CachedCategory cached) {
+        Duration remaining = Duration.between(LocalDateTime.now(), cached.updatedAt().plus(ttl));
+        return remaining.isNegative() ? 0 : remaining.toNanos();
+    }
+
+        private void memoryPut(PageCategoryCache entry) {
+        LocalDateTime updatedAt = entry.getUpdatedAt() != null ? entry.getUpdatedAt() : LocalDateTime.now();
+        memoryCache.put(entry.getCacheKey(), new CachedCategory(entry.getCategory(), entry.getSamples(), updatedAt));
+    }
+
+    private void count(String source, int amount) {
+        if (amount > 0) {
+            Counter.builder("page.category.lookup")
+                    .tag("source", source)
+                    .register(meterRegistry)
+                    .increment(amount);
+        }
+    }
+
+    // ===== GPT 분류 =====
+
+    /**
+     * 페이지 목록과 같은 순서의 카테고리 목록 (응답에 없거나 유효하지 않은 항목은 null)
+     * - chunk-size 단위로 나누어 categorizationExecutor 에서 동시에 호출하고, 응답의 index 로 원래 위치에 병합한다.
+     * - 청크마다 누락된 index 만 chunk-retries 번까지 다시 요청한다.
+     * - 일부 청크가 실패하면 해당 페이지만 null 로 두고, 모든 청크가 실패한 경우에만 예외를 던진다.
+     * - 서킷 브레이커로 거절된 청크는 실패로 치지 않고 unavailable 로 표시한다.
+     */
+    private GptCategories fetchFromGpt(List<VisitedPageForTimeDto> pages) {
+        String[] result = new String[pages.size()];
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < pages.size(); from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, pages.size());
+            futures.add(CompletableFuture.runAsync(
+                    () -> fetchChunk(pages, start, end, result), categorizationExecutor));
+        }
+
+        RuntimeException firstFailure = null;
+        int failed = 0;
+        boolean unavailable = false;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof OpenAiUnavailableException) {
+                    unavailable = true;
+                    continue;
+                }
+                failed++;
+                if (firstFailure == null) {
+                    firstFailure = e.getCause() instanceof RuntimeException re ? re : e;
+                }
+                log.warn("카테고리 분류 청크 실패: {}", e.getCause() == null ? e.getMessage() : e.getCause().getMessage());
+            }
+        }
+        if (failed == futures.size() && firstFailure != null) {
+            throw firstFailure;
+        }
+        return new GptCategories(Arrays.asList(result), unavailable);
+    }
+
+    /**
+     * pages[start, end) 를 분류하여 result 의 같은 index 에 기록 (청크마다 다른 구간이므로 동기화 불필요)
+     */
+    private void fetchChunk(List<VisitedPageForTimeDto> pages, int start, int end, String[] result) {
+        List<Integer> pending = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            pending.add(i);
+        }
+
+        for (int attempt = 0; attempt <= chunkRetries && !pending.isEmpty(); attempt++) {
+            Map<Integer, String> fetched;
+            try {
+                fetched = requestCategories(pages, pending);
+            } catch (OpenAiUnavailableException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                if (attempt == chunkRetries) {
+                    throw e;
+                }
+                log.warn("카테고리 분류 청크 [{}, {}) 재시도 ({}): {}", start, end, attempt + 1, e.getMessage());
+                continue;
+            }
+
+            List<Integer> missing = new ArrayList<>();
+            for (int index : pending) {
+                String category = fetched.get(index);
+                if (category != null) {
+                    result[index] = category;
+                } else {
+                    missing.add(index);
+                }
+            }
+            if (!missing.isEmpty()) {
+                log.warn("카테고리 분류 청크 [{}, {}) 응답 누락 {}건 (시도 {})", start, end, missing.size(), attempt + 1);
+            }
+            pending = missing;
+        }
+    }
+
+    /**
+     * 지정한 index 의 페이지를 한 번의 GPT 호출로 분류 - 요청한 index 중 응답에 있는 것만 반환
+     * 프롬프트/응답 형식은 CategoryPromptEncoder 참고
+     */
+    private Map<Integer, String> requestCategories(List<VisitedPageForTimeDto> pages, List<Integer> indices) {
+        String content = openAiGateway.complete(
+                OpenAiUseCase.CATEGORIZATION, "당신은 인터넷 기록 분류 전문가입니다.",
+                CategoryPromptEncoder.encode(pages, indices), 0.2);
+
+        Set<Integer> requested = new HashSet<>(indices);
+        Map<Integer, String> categories = new HashMap<>();
+        CategoryPromptEncoder.decode(content).forEach((index, category) -> {
+            if (requested.contains(index)) {
+                categories.put(index, category.getLabel());
+            }
+        });
+        return categories;
+    }
+
+    /**
+     * 분류 결과 - degraded 면 GPT 를 쓰지 못해 일부 페이지를 로컬 분류로 채운 것
+     */
+    public record Categorization(List<String> categories, boolean degraded) {
+    }
+
+    private record GptCategories(List<String> categories, boolean unavailable) {
+    }
+
+    private record CachedCategory(String category, int samples, LocalDateTime updatedAt) {
+    }
+
+    private record Classified(String urlKey, String domainKey, String category) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.univ.memoir.core.category;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * GPT 프롬프트 전 중복에 가까운 방문 페이지 묶기
+ * - 정규화 URL(PageUrlNormalizer.urlKey) 이 같으면 같은 묶음
+ * - 같은 호스트(http/https) 안에서 제목의 문자 3-gram MinHash 유사도가 기준 이상이면 같은 묶음 (LSH 밴딩으로 후보만 비교)
+ * 호출자는 묶음마다 대표 하나만 보내고 결과를 구성원 전체에 나눠준다.
+ */
+@Component
+public class PageClusterer {
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final int BANDS = 16;
+    private static final int ROWS = 4;
+    private static final int NUM_HASHES = BANDS * ROWS;
+    private static final long[] SEEDS = new SplittableRandom(0x5EEDL).longs(NUM_HASHES).toArray();
+
+    private final double similarityThreshold;
+
+    public PageClusterer(@Value("${page-cluster.title-similarity:0.8}") double similarityThreshold) {
+        this.similarityThreshold = similarityThreshold;
+    }
+
+    /**
+     * 묶음 목록 (입력 순서 기준, 각 묶음의 구성원 index 도 오름차순)
+     */
+    public <T> List<Cluster> cluster(List<T> items, Function<T, String> urlOf, Function<T, String> titleOf) {
+        int size = items.size();
+        int[] parent = new int[size];
+        for (int i = 0; i < size; i++) {
+            parent[i] = i;
+        }
+
+        Map<String, Integer> byUrl = new HashMap<>();
+        Map<BandKey, Integer> byBand = new HashMap<>();
+        int[][] signatures = new int[size][];
+
+        for (int i = 0; i < size; i++) {
+            T item = items.get(i);
+            String url = urlOf.apply(item);
+
+            String urlKey = PageUrlNormalizer.urlKey(url);
+            if (urlKey != null) {
+                Integer same = byUrl.putIfAbsent(urlKey, i);
+                if (same != null) {
+                    union(parent, same, i);
+                    continue;
+                }
+            }
+
+            String host = PageUrlNormalizer.host(url);
+            signatures[i] = host == null ? null : signature(titleOf.apply(item));
+            if (signatures[i] == null) {
+                continue;
+            }
+            for (int band = 0; band < BANDS; band++) {
+                Integer candidate = byBand.putIfAbsent(new BandKey(host, band, bandHash(signatures[i], band)), i);
+                if (candidate != null && find(parent, candidate) != find(parent, i)
+                        && similarity(signatures[candidate], signatures[i]) >= similarityThreshold) {
+                    union(parent, candidate, i);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            groups.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(i);
+        }
+        List<Cluster> clusters = new ArrayList<>(groups.size());
+        groups.values().forEach(members -> clusters.add(new Cluster(members)));
+        return clusters;
+    }
+
+    /**
+     * 구성원 index 목록 - 첫 구성원이 대표
+     */
+    public record Cluster(List<Integer> members) {
+
+        public int representative() {
+            return members.get(0);
+        }
+    }
+
+    /**
+     * 소문자 + 공백 정리한 제목의 3-gram MinHash (빈 제목은 null)
+     */
+    private static int[] signature(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        String normalized = title.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        int last = Math.max(1, normalized.length() - SHINGLE_SIZE + 1);
+        for (int start = 0; start < last; start++) {
+            int shingle = normalized.substring(start, Math.min(normalized.length(), start + SHINGLE_SIZE)).hashCode();
+            for (int h = 0; h < NUM_HASHES; h++) {
+                int value = (int) mix(shingle ^ SEEDS[h]);
+                if (value < signature[h]) {
+                    signature[h] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * 같은 자리의 최솟값이 일치하는 비율 ≈ Jaccard 유사도
+     */
+    private static double similarity(int[] a, int[] b) {
+        int same = 0;
+        for (int h = 0; h < NUM_HASHES; h++) {
+            if (a[h] == b[h]) {
+                same++;
+            }
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    private static int bandHash(int[] signature, int band) {
+        int hash = 1;
+        for (int r = band * ROWS; r < (band + 1) * ROWS; r++) {
+            hash = 31 * hash + signature[r];
+        }
+        return hash;
+    }
+
+    /**
+     * murmur3 fmix64
+     */
+    private static long mix(long x) {
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            // 작은 index 를 루트로 두어 대표가 입력 순서상 첫 페이지가 되도록 한다.
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private record BandKey(String host, int band, int hash) {
+    }
+}
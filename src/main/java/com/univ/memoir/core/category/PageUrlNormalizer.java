@@ -0,0 +1,140 @@
+package com.univ.memoir.core.category;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import com.univ.memoir.core.support.ContentHash;
+
+/**
+ * 카테고리 캐시 키 생성을 위한 URL 정규화
+ * - 스킴, fragment, www. 접두어, 끝의 / 를 제거하고 호스트는 소문자로 통일
+ * - 추적용 쿼리 파라미터(utm_*, fbclid 등)는 제거하고, 나머지 쿼리는 원문 대신 해시로만 키에 남긴다.
+ *   (키는 사용자 공용 테이블에 저장되므로 토큰/검색어 같은 쿼리 값을 그대로 두지 않는다.)
+ * - 브라우저가 넘겨주는 URL 에는 인코딩되지 않은 문자가 섞여 있으므로 java.net.URI 대신 직접 자른다.
+ */
+public final class PageUrlNormalizer {
+
+    public static final int MAX_KEY_LENGTH = 512;
+
+    private static final String URL_PREFIX = "url:";
+    private static final String DOMAIN_PREFIX = "domain:";
+    private static final int QUERY_HASH_LENGTH = 16;
+    private static final Set<String> TRACKING_PARAMS = Set.of("fbclid", "gclid", "igshid", "ref", "ref_src", "si");
+
+    private PageUrlNormalizer() {
+    }
+
+    /**
+     * URL 단위 캐시 키 (정규화 불가하거나 너무 길면 null)
+     */
+    public static String urlKey(String url) {
+        String[] parts = split(url);
+        if (parts == null) {
+            return null;
+        }
+        String key = URL_PREFIX + parts[0] + parts[1] + parts[2];
+        return key.length() > MAX_KEY_LENGTH ? null : key;
+    }
+
+    /**
+     * 도메인 단위 캐시 키 (정규화 불가하면 null)
+     */
+    public static String domainKey(String url) {
+        String host = host(url);
+        return host == null ? null : DOMAIN_PREFIX + host;
+    }
+
+    /**
+     * www. 를 제외한 소문자 호스트
+     */
+    public static String host(String url) {
+        String[] parts = split(url);
+        return parts == null ? null : parts[0];
+    }
+
+    /**
+     * [host, path, query] 로 분리 - http(s) 가 아닌 URL(chrome://, about:blank 등)은 null
+     */
+    private static String[] split(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        String s = url.trim();
+        int hash = s.indexOf('#');
+        if (hash >= 0) {
+            s = s.substring(0, hash);
+        }
+
+        int schemeEnd = s.indexOf("://");
+        if (schemeEnd < 0) {
+            return null;
+        }
+        String scheme = s.substring(0, schemeEnd).toLowerCase(Locale.ROOT);
+        if (!scheme.equals("http") && !scheme.equals("https")) {
+            return null;
+        }
+        s = s.substring(schemeEnd + 3);
+
+        int authorityEnd = indexOfAny(s, '/', '?');
+        String authority = authorityEnd < 0 ? s : s.substring(0, authorityEnd);
+        String rest = authorityEnd < 0 ? "" : s.substring(authorityEnd);
+
+        int at = authority.lastIndexOf('@');
+        if (at >= 0) {
+            authority = authority.substring(at + 1);
+        }
+        int colon = authority.indexOf(':');
+        if (colon >= 0) {
+            authority = authority.substring(0, colon);
+        }
+        String host = authority.toLowerCase(Locale.ROOT);
+        if (host.startsWith("www.")) {
+            host = host.substring(4);
+        }
+        if (host.isEmpty()) {
+            return null;
+        }
+
+        int q = rest.indexOf('?');
+        String path = q < 0 ? rest : rest.substring(0, q);
+        String query = q < 0 ? "" : hashQuery(filterQuery(rest.substring(q + 1)));
+        while (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return new String[]{host, path, query};
+    }
+
+    private static String filterQuery(String query) {
+        StringJoiner kept = new StringJoiner("&", "?", "").setEmptyValue("");
+        for (String param : query.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            int eq = param.indexOf('=');
+            String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            kept.add(param);
+        }
+        return kept.toString();
+    }
+
+    /**
+     * "?a=1&b=2" → "?" + SHA-256 앞 16자리 (쿼리가 없으면 빈 문자열)
+     */
+    private static String hashQuery(String query) {
+        return query.isEmpty() ? "" : "?" + ContentHash.sha256(query).substring(0, QUERY_HASH_LENGTH);
+    }
+
+    private static int indexOfAny(String s, char a, char b) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == a || c == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
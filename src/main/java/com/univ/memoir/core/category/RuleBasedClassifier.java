@@ -0,0 +1,168 @@
+package com.univ.memoir.core.category;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.core.domain.CategoryRule;
+import com.univ.memoir.core.repository.CategoryRuleRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 호출 전 1차 분류기 - 도메인 트라이 + 제목 키워드(Aho-Corasick) 규칙
+ * - 규칙은 category_rule 테이블에서 읽고 category-rule.reload-interval 마다 다시 읽는다. 테이블이 비어 있으면 기본 규칙 사용
+ * - 카테고리별 점수 = 일치한 도메인 규칙 weight + 일치한 키워드 weight 합
+ * - confidence = min(1, 최고 점수) × (최고 점수 / 전체 점수 합) → 여러 카테고리가 경합하면 낮아진다.
+ */
+@Slf4j
+@Component
+public class RuleBasedClassifier {
+
+    private static final double DOMAIN_WEIGHT = 0.95;
+    private static final double KEYWORD_WEIGHT = 0.4;
+
+    private static final String STUDY = PageCategory.STUDY.getLabel();
+    private static final String NEWS = PageCategory.NEWS.getLabel();
+    private static final String CONTENT = PageCategory.CONTENT.getLabel();
+    private static final String SHOPPING = PageCategory.SHOPPING.getLabel();
+    private static final String WORK = PageCategory.WORK.getLabel();
+
+    private final CategoryRuleRepository categoryRuleRepository;
+    private final double minConfidence;
+
+    private volatile Rules rules = Rules.of(defaultRules());
+
+    public RuleBasedClassifier(CategoryRuleRepository categoryRuleRepository,
+                               @Value("${category-rule.min-confidence:0.8}") double minConfidence) {
+        this.categoryRuleRepository = categoryRuleRepository;
+        this.minConfidence = minConfidence;
+    }
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    /**
+     * 규칙 테이블을 다시 읽어 분류기를 교체 (조회 실패 시 기존 규칙 유지)
+     */
+    @Scheduled(fixedDelayString = "${category-rule.reload-interval:PT5M}",
+            initialDelayString = "${category-rule.reload-interval:PT5M}")
+    public void reload() {
+        try {
+            List<CategoryRule> loaded = categoryRuleRepository.findAllByEnabledTrue();
+            rules = Rules.of(loaded.isEmpty() ? defaultRules() : loaded);
+            log.debug("카테고리 규칙 로드 - {}건{}", loaded.size(), loaded.isEmpty() ? " (기본 규칙 사용)" : "");
+        } catch (DataAccessException e) {
+            log.warn("카테고리 규칙 로드 실패 - 기존 규칙 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 규칙으로 분류 - 일치하는 규칙이 없으면 null
+     */
+    public Classification classify(String title, String url) {
+        Rules current = rules;
+        Map<String, Double> scores = new HashMap<>(4);
+
+        CategoryRule domainRule = current.domains().findLongestMatch(PageUrlNormalizer.host(url));
+        if (domainRule != null) {
+            scores.merge(domainRule.getCategory(), domainRule.getWeight(), Double::sum);
+        }
+        current.keywords().forEachMatch(title,
+                rule -> scores.merge(rule.getCategory(), rule.getWeight(), Double::sum));
+
+        if (scores.isEmpty()) {
+            return null;
+        }
+
+        String best = null;
+        double bestScore = 0;
+        double total = 0;
+        for (Map.Entry<String, Double> e : scores.entrySet()) {
+            total += e.getValue();
+            if (e.getValue() > bestScore) {
+                best = e.getKey();
+                bestScore = e.getValue();
+            }
+        }
+        double confidence = Math.min(1.0, bestScore) * (bestScore / total);
+        return new Classification(best, confidence);
+    }
+
+    /**
+     * confidence 가 기준 이상일 때만 카테고리 반환 (그 외 null → GPT 로 넘긴다)
+     */
+    public String classifyConfident(String title, String url) {
+        Classification result = classify(title, url);
+        return result != null && result.confidence() >= minConfidence ? result.category() : null;
+    }
+
+    public record Classification(String category, double confidence) {
+    }
+
+    private record Rules(DomainTrie<CategoryRule> domains, AhoCorasickMatcher<CategoryRule> keywords) {
+
+        static Rules of(List<CategoryRule> ruleList) {
+            DomainTrie<CategoryRule> domains = new DomainTrie<>();
+            Map<String, CategoryRule> keywords = new HashMap<>();
+            for (CategoryRule rule : ruleList) {
+                if (!PageCategoryService.VALID_CATEGORIES.contains(rule.getCategory())) {
+                    continue;
+                }
+                if (rule.getRuleType() == CategoryRule.RuleType.DOMAIN) {
+                    domains.put(rule.getPattern(), rule);
+                } else {
+                    keywords.put(rule.getPattern(), rule);
+                }
+            }
+            return new Rules(domains, new AhoCorasickMatcher<>(keywords));
+        }
+    }
+
+    /**
+     * 카테고리 프롬프트의 분류 기준을 옮긴 기본 규칙
+     */
+    private static List<CategoryRule> defaultRules() {
+        List<CategoryRule> defaults = new ArrayList<>();
+        domains(defaults, STUDY, "github.com", "stackoverflow.com", "stackexchange.com", "leetcode.com",
+                "programmers.co.kr", "acmicpc.net", "inflearn.com", "udemy.com", "coursera.org",
+                "developer.mozilla.org", "docs.oracle.com", "docs.spring.io", "baeldung.com", "w3schools.com");
+        domains(defaults, NEWS, "news.naver.com", "news.daum.net", "news.google.com", "news.hada.io",
+                "linkedin.com", "bbc.com", "cnn.com", "chosun.com", "joongang.co.kr", "hani.co.kr", "yna.co.kr");
+        domains(defaults, CONTENT, "youtube.com", "youtu.be", "netflix.com", "instagram.com", "twitter.com",
+                "x.com", "facebook.com", "tiktok.com", "twitch.tv", "chzzk.naver.com", "comic.naver.com",
+                "watcha.com", "tving.com", "wavve.com");
+        domains(defaults, SHOPPING, "coupang.com", "11st.co.kr", "amazon.com", "gmarket.co.kr", "auction.co.kr",
+                "ssg.com", "musinsa.com", "smartstore.naver.com", "aliexpress.com");
+        domains(defaults, WORK, "docs.google.com", "drive.google.com", "notion.so", "notion.site", "slack.com",
+                "atlassian.net", "console.aws.amazon.com", "aws.amazon.com", "figma.com", "trello.com");
+
+        keywords(defaults, STUDY, "강의", "강좌", "튜토리얼", "tutorial", "문법", "documentation", "공식 문서", "알고리즘");
+        keywords(defaults, NEWS, "뉴스", "속보", "기사", "news");
+        keywords(defaults, CONTENT, "드라마", "예능", "웹툰", "뮤직비디오", "official video");
+        keywords(defaults, SHOPPING, "장바구니", "최저가", "구매", "주문", "특가");
+        keywords(defaults, WORK, "회의록", "대시보드", "dashboard", "jira", "pull request");
+        return defaults;
+    }
+
+    private static void domains(List<CategoryRule> target, String category, String... patterns) {
+        for (String pattern : patterns) {
+            target.add(new CategoryRule(CategoryRule.RuleType.DOMAIN, pattern, category, DOMAIN_WEIGHT));
+        }
+    }
+
+    private static void keywords(List<CategoryRule> target, String category, String... patterns) {
+        for (String pattern : patterns) {
+            target.add(new CategoryRule(CategoryRule.RuleType.KEYWORD, pattern, category, KEYWORD_WEIGHT));
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.univ.memoir.core.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 규칙 기반 카테고리 분류 규칙
+ * - DOMAIN: 호스트가 pattern 과 같거나 그 하위 도메인이면 적용 (예: github.com → gist.github.com)
+ * - KEYWORD: 페이지 제목에 pattern 이 포함되면 적용 (대소문자 무시)
+ * weight 는 해당 규칙 하나만으로 얻는 점수 (0~1)
+ */
+@Entity
+@Table(name = "category_rule")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryRule {
+
+    public enum RuleType {
+        DOMAIN, KEYWORD
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 10)
+    private RuleType ruleType;
+
+    @Column(nullable = false, length = 255)
+    private String pattern;
+
+    @Column(nullable = false, length = 30)
+    private String category;
+
+    @Column(nullable = false)
+    private double weight;
+
+    @Column(nullable = false)
+    private boolean enabled = true;
+
+    public CategoryRule(RuleType ruleType, String pattern, String category, double weight) {
+        this.ruleType = ruleType;
+        this.pattern = pattern;
+        this.category = category;
+        this.weight = weight;
+    }
+}
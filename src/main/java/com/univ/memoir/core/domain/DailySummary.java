@@ -7,8 +7,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자/날짜별 일일 요약 - (user_id, date) 당 한 행이며, 다시 요약하면 DailySummaryRepository.upsert 로 내용을 교체한다.
+ */
 @Entity
-@Table(name = "daily_summary")
+@Table(name = "daily_summary",
+		uniqueConstraints = @UniqueConstraint(name = "uk_daily_summary_user_date", columnNames = {"user_id", "date"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailySummary {
@@ -51,4 +55,4 @@ public class DailySummary {
 		this.totalUsageMinutes = totalUsageMinutes;
 		this.activityProportionsJson = activityProportionsJson;
 	}
-}
\ No newline at end of file
+}
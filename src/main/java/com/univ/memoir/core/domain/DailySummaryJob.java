@@ -0,0 +1,71 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 일일 요약 작업 상태 (재시작 이후에도 작업 결과를 조회할 수 있도록 저장)
+ * 결과 본문은 daily_summary 테이블에 저장되므로 여기에는 상태만 남긴다.
+ * instanceId 는 작업을 실행하는 서버, updatedAt 은 그 서버가 주기적으로 갱신하는 heartbeat 로도 쓰인다.
+ */
+@Entity
+@Table(name = "daily_summary_job", indexes = @Index(name = "idx_daily_summary_job_updated_at", columnList = "updated_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailySummaryJob {
+
+	public enum Status {
+		PENDING, RUNNING, SUCCEEDED, FAILED;
+
+		public boolean isDone() {
+			return this == SUCCEEDED || this == FAILED;
+		}
+	}
+
+	@Id
+	@Column(length = 36)
+	private String id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	private LocalDate date;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 10)
+	private Status status;
+
+	@Column(length = 500)
+	private String errorMessage;
+
+	@Column(name = "instance_id", length = 64)
+	private String instanceId;
+
+	private LocalDateTime createdAt;
+
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	public DailySummaryJob(String id, Long userId, LocalDate date, Status status, String errorMessage,
+						   String instanceId, LocalDateTime createdAt) {
+		this.id = id;
+		this.userId = userId;
+		this.date = date;
+		this.status = status;
+		this.errorMessage = errorMessage;
+		this.instanceId = instanceId;
+		this.createdAt = createdAt;
+		this.updatedAt = LocalDateTime.now();
+	}
+
+	public void fail(String errorMessage) {
+		this.status = Status.FAILED;
+		this.errorMessage = errorMessage;
+		this.updatedAt = LocalDateTime.now();
+	}
+}
@@ -16,4 +16,11 @@ public enum InterestType {
         this.categoryName = categoryName;
     }
 
+    /**
+     * UserSnapshot 관심사 비트마스크에서 사용하는 비트
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+
 }
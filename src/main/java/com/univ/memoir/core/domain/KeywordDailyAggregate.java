@@ -0,0 +1,41 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자/날짜/키워드별 누적 빈도 - 분석 결과를 저장할 때마다 같은 행의 frequency 를 더한다.
+ * 쓰기는 KeywordAggregateUpsertRepository 의 배치 upsert 로만 한다. (unique key 충돌 시 누적)
+ * 상위 키워드는 (user_id, date, frequency) 인덱스로 정렬 없이 읽는다.
+ */
+@Entity
+@Table(name = "keyword_daily_aggregate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_keyword_daily_aggregate",
+                columnNames = {"user_id", "date", "keyword"}),
+        indexes = @Index(name = "idx_keyword_daily_aggregate_rank", columnList = "user_id, date, frequency"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeywordDailyAggregate {
+
+    public static final int MAX_KEYWORD_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(nullable = false, length = MAX_KEYWORD_LENGTH)
+    private String keyword;
+
+    @Column(nullable = false)
+    private int frequency;
+}
@@ -0,0 +1,63 @@
+package com.univ.memoir.core.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 키워드 추이 집계 단위 - 주는 월요일, 월은 1일부터 시작한다.
+ */
+public enum KeywordTrendGranularity {
+    DAILY(ChronoUnit.DAYS),
+    WEEKLY(ChronoUnit.WEEKS),
+    MONTHLY(ChronoUnit.MONTHS);
+
+    private final ChronoUnit unit;
+
+    KeywordTrendGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * date 가 속한 기간의 시작일
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAILY -> date;
+            case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> date.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * 기간의 마지막 날 (포함)
+     */
+    public LocalDate periodEnd(LocalDate periodStart) {
+        return next(periodStart).minusDays(1);
+    }
+
+    public LocalDate next(LocalDate periodStart) {
+        return periodStart.plus(1, unit);
+    }
+
+    /**
+     * 두 기간 시작일 사이(양 끝 포함)의 기간 수
+     */
+    public long periodsBetween(LocalDate firstPeriodStart, LocalDate lastPeriodStart) {
+        return unit.between(firstPeriodStart, lastPeriodStart) + 1;
+    }
+
+    public static Optional<KeywordTrendGranularity> from(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(valueOf(value.strip().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
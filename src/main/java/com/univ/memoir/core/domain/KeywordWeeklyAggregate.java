@@ -0,0 +1,38 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자/주(월요일 시작)/키워드별 누적 빈도 - keyword_daily_aggregate 의 롤업
+ * 일별 집계와 같은 upsert 에서 함께 더하고, 일별 삭제 시 그만큼 뺀다. (KeywordAggregateUpsertRepository)
+ */
+@Entity
+@Table(name = "keyword_weekly_aggregate",
+        uniqueConstraints = @UniqueConstraint(name = "uk_keyword_weekly_aggregate",
+                columnNames = {"user_id", "period_start", "keyword"}),
+        indexes = @Index(name = "idx_keyword_weekly_aggregate_rank", columnList = "user_id, period_start, frequency"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class KeywordWeeklyAggregate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(nullable = false, length = KeywordDailyAggregate.MAX_KEYWORD_LENGTH)
+    private String keyword;
+
+    @Column(nullable = false)
+    private int frequency;
+}
@@ -0,0 +1,46 @@
+package com.univ.memoir.core.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방문 페이지 카테고리 분류 결과 캐시
+ * - URL: 정규화된 URL 단위 분류 결과
+ * - DOMAIN: 같은 도메인의 URL 분류 결과가 연속으로 일치한 횟수(samples)를 함께 저장하여 도메인 단위 폴백에 사용
+ * 쓰기는 PageCategoryCacheUpsertRepository 의 행 단위 upsert 로만 하고, updated_at 이 ttl 보다 오래된 행은 주기적으로 지운다.
+ */
+@Entity
+@Table(name = "page_category_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_page_category_cache_key", columnNames = "cache_key"),
+        indexes = @Index(name = "idx_page_category_cache_updated_at", columnList = "updated_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PageCategoryCache {
+
+    public enum KeyType {
+        URL, DOMAIN
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "cache_key", nullable = false, length = 512)
+    private String cacheKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "key_type", nullable = false, length = 10)
+    private KeyType keyType;
+
+    @Column(nullable = false, length = 30)
+    private String category;
+
+    @Column(nullable = false)
+    private int samples;
+
+    private LocalDateTime updatedAt;
+}
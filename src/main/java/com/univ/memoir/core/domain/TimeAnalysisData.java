@@ -6,8 +6,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 사용자/날짜별 시간 분석 - (user_id, date) 당 한 행이며, 다시 분석하면 TimeAnalysisDataRepository.upsert 로 내용을 교체한다.
+ */
 @Entity
-@Table(name = "time_analysis_data")
+@Table(name = "time_analysis_data",
+        uniqueConstraints = @UniqueConstraint(name = "uk_time_analysis_data_user_date", columnNames = {"user_id", "date"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TimeAnalysisData {
@@ -37,4 +41,4 @@ public class TimeAnalysisData {
         this.categorySummariesJson = categorySummariesJson;
         this.hourlyBreakdownsJson = hourlyBreakdownsJson;
     }
-}
\ No newline at end of file
+}
@@ -45,19 +45,19 @@ public class User {
     @Column(name = "profile_url", length = 2048)
     private String profileUrl;
 
-    @Column(name = "access_token")
-    private String accessToken;
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion = 0; // 로그아웃/탈퇴 시 증가, JWT 'ver' 클레임과 비교
 
     @Column(length = 1, nullable = false)
     private String status = "N"; // 'N' = 정상 / 'Y' = 탈퇴
 
-    @ElementCollection(targetClass = InterestType.class, fetch = FetchType.EAGER)
+    @ElementCollection(targetClass = InterestType.class, fetch = FetchType.LAZY)
     @CollectionTable(name = "user_interests", joinColumns = @JoinColumn(name = "user_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "interest")
     private Set<InterestType> interests = new HashSet<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
+    @ElementCollection(fetch = FetchType.LAZY) // 북마크 API 에서만 로딩
     @CollectionTable(
             name = "user_bookmarks",
             joinColumns = @JoinColumn(name = "user_id"),
@@ -67,13 +67,13 @@ public class User {
     private Set<String> bookmarkUrls = new HashSet<>();
 
     @Builder
-    public User(String googleId, String email, String name, String profileUrl, String accessToken) {
+    public User(String googleId, String email, String name, String profileUrl) {
         this.googleId = googleId;
         this.email = email;
         this.name = name;
         this.profileUrl = profileUrl;
-        this.accessToken = accessToken;
         this.status = "N";
+        this.tokenVersion = 0;
     }
 
     public void updateName(String name) {
@@ -84,13 +84,16 @@ public class User {
         this.profileUrl = profileUrl;
     }
 
-    public void updateAccessToken(String accessToken) {
-        this.accessToken = accessToken;
+    /**
+     * 발급된 모든 토큰 무효화 (토큰 버전 증가)
+     */
+    public void revokeTokens() {
+        this.tokenVersion++;
     }
 
     public void withdraw() {
         this.status = "Y";
-        this.accessToken = null; // 탈퇴시 accessToken 삭제
+        revokeTokens(); // 탈퇴시 기존 토큰 무효화
     }
 
     public boolean isActive() {
@@ -0,0 +1,42 @@
+package com.univ.memoir.core.domain;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 인증/조회 경로에서 사용하는 읽기 전용 사용자 요약
+ * 북마크 등 컬렉션을 로딩하지 않고 식별자, 상태, 관심사 비트마스크만 담는다.
+ */
+public record UserSnapshot(
+        Long id,
+        String email,
+        String status,
+        int interestsMask
+) {
+
+    public boolean isActive() {
+        return "N".equals(status);
+    }
+
+    public boolean hasInterest(InterestType interestType) {
+        return (interestsMask & interestType.mask()) != 0;
+    }
+
+    /**
+     * (id, email, status, interest) 조인 결과 행들을 하나의 스냅샷으로 접는다.
+     */
+    public static Optional<UserSnapshot> fromRows(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Object[] first = rows.get(0);
+        int mask = 0;
+        for (Object[] row : rows) {
+            if (row[3] instanceof InterestType interestType) {
+                mask |= interestType.mask();
+            }
+        }
+        return Optional.of(new UserSnapshot((Long) first[0], (String) first[1], (String) first[2], mask));
+    }
+}
@@ -0,0 +1,34 @@
+package com.univ.memoir.core.openai;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * stream: true 응답의 data 한 줄 (delta 에 이번에 생성된 토큰이 들어 있다)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionChunk(
+        List<Choice> choices,
+        ChatCompletionResponse.Usage usage
+) {
+
+    /**
+     * choices[0].delta.content (없으면 빈 문자열)
+     */
+    public String deltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).delta() == null) {
+            return "";
+        }
+        String content = choices.get(0).delta().content();
+        return content == null ? "" : content;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(Delta delta) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Delta(String content) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.univ.memoir.core.openai;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * /v1/chat/completions 요청 본문 (stream 관련 필드는 스트리밍 요청에서만 포함)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ChatCompletionRequest(
+        String model,
+        List<ChatMessage> messages,
+        double temperature,
+        Boolean stream,
+        @JsonProperty("stream_options") StreamOptions streamOptions
+) {
+
+    public static ChatCompletionRequest of(String model, String systemPrompt, String userPrompt, double temperature) {
+        return new ChatCompletionRequest(model, messages(systemPrompt, userPrompt), temperature, null, null);
+    }
+
+    /**
+     * stream: true 요청 - 마지막 청크로 토큰 사용량을 받는다.
+     */
+    public static ChatCompletionRequest streaming(String model, String systemPrompt, String userPrompt, double temperature) {
+        return new ChatCompletionRequest(model, messages(systemPrompt, userPrompt), temperature, true,
+                new StreamOptions(true));
+    }
+
+    private static List<ChatMessage> messages(String systemPrompt, String userPrompt) {
+        return List.of(new ChatMessage("system", systemPrompt), new ChatMessage("user", userPrompt));
+    }
+
+    public record ChatMessage(String role, String content) {
+    }
+
+    public record StreamOptions(@JsonProperty("include_usage") boolean includeUsage) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.univ.memoir.core.openai;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * /v1/chat/completions 응답 본문 (사용하는 필드만 매핑)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionResponse(
+        List<Choice> choices,
+        Usage usage
+) {
+
+    public boolean hasChoices() {
+        return choices != null && !choices.isEmpty();
+    }
+
+    /**
+     * choices[0].message.content
+     */
+    public String firstContent() {
+        Choice choice = choices.get(0);
+        return choice.message() == null ? "" : Objects.toString(choice.message().content(), "").trim();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(ChatCompletionRequest.ChatMessage message) {
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Usage(
+            @JsonProperty("prompt_tokens") int promptTokens,
+            @JsonProperty("completion_tokens") int completionTokens
+    ) {
+    }
+}
@@ -0,0 +1,215 @@
+package com.univ.memoir.core.openai;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 호출 서킷 브레이커 - 최근 window-size 건의 실패율/느린 호출 비율로 동작
+ * - CLOSED: 최근 호출 중 실패 또는 느린 호출 비율이 기준 이상이면 OPEN
+ *   느린 호출 기준은 용도별 openai.circuit-breaker.{용도}.slow-call-duration 이고,
+ *   스트리밍은 전체 시간이 아니라 첫 토큰까지의 시간을 slow-first-token-duration 과 비교한다.
+ * - OPEN: open-duration 동안 호출을 바로 거절 (호출자는 로컬 처리로 대체)
+ * - HALF_OPEN: half-open-calls 건만 시험 호출을 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ * CLOSED 로 돌아오면 GptCircuitClosedEvent 를 발행한다.
+ */
+@Slf4j
+@Component
+public class GptCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final Map<OpenAiUseCase, Long> slowCallNanos = new EnumMap<>(OpenAiUseCase.class);
+    private final long slowFirstTokenNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 링 버퍼 (this 로 동기화)
+    private final boolean[] failed;
+    private final boolean[] slow;
+    private int recorded;
+    private int next;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public GptCircuitBreaker(ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             Environment environment,
+                             @Value("${openai.circuit-breaker.window-size:20}") int windowSize,
+                             @Value("${openai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                             @Value("${openai.circuit-breaker.failure-rate-threshold:0.5}") double failureRateThreshold,
+                             @Value("${openai.circuit-breaker.slow-first-token-duration:PT5S}") Duration slowFirstTokenDuration,
+                             @Value("${openai.circuit-breaker.slow-call-rate-threshold:0.5}") double slowCallRateThreshold,
+                             @Value("${openai.circuit-breaker.open-duration:PT30S}") Duration openDuration,
+                             @Value("${openai.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, this.windowSize));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowFirstTokenNanos = slowFirstTokenDuration.toNanos();
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = Math.max(1, halfOpenCalls);
+        this.failed = new boolean[this.windowSize];
+        this.slow = new boolean[this.windowSize];
+
+        for (OpenAiUseCase useCase : OpenAiUseCase.values()) {
+            Duration slowCallDuration = environment.getProperty(
+                    "openai.circuit-breaker." + useCase.getKey() + ".slow-call-duration", Duration.class,
+                    useCase.getDefaultSlowCallDuration());
+            slowCallNanos.put(useCase, slowCallDuration.toNanos());
+        }
+
+        Gauge.builder("openai.circuit.state", this, breaker -> breaker.state().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 허용 여부 - 허용되면 반드시 onSuccess/onError (스트리밍은 onStreamSuccess/onStreamError),
+     * 취소된 호출이면 onCancelled 중 하나를 호출해야 한다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                Counter.builder("openai.circuit.rejected").register(meterRegistry).increment();
+                return false;
+            }
+            transition(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                Counter.builder("openai.circuit.rejected").register(meterRegistry).increment();
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    /**
+     * 호출을 하지 않고 허용 여부만 확인 (로컬 처리로 바로 갈지 판단용)
+     */
+    public synchronized boolean isCallPermitted() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> System.nanoTime() - openedAt >= openNanos;
+            case HALF_OPEN -> halfOpenPermits < halfOpenCalls;
+        };
+    }
+
+    public void onSuccess(OpenAiUseCase useCase, long elapsedNanos) {
+        record(false, elapsedNanos >= slowCallNanos.get(useCase));
+    }
+
+    public void onError(OpenAiUseCase useCase, long elapsedNanos) {
+        record(true, elapsedNanos >= slowCallNanos.get(useCase));
+    }
+
+    /**
+     * 스트리밍 호출 - 첫 토큰까지의 시간으로 느린 호출을 판단 (첫 토큰 전에 끝났으면 끝날 때까지의 시간)
+     */
+    public void onStreamSuccess(long firstTokenNanos) {
+        record(false, firstTokenNanos >= slowFirstTokenNanos);
+    }
+
+    public void onStreamError(long firstTokenNanos) {
+        record(true, firstTokenNanos >= slowFirstTokenNanos);
+    }
+
+    /**
+     * 헤지에 져서 취소(인터럽트)된 호출 - 실패나 느린 호출로 세지 않고, HALF_OPEN 시험 슬롯만 돌려준다.
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean isFailure, boolean isSlow) {
+        boolean closed = false;
+        synchronized (this) {
+            if (state == State.HALF_OPEN) {
+                if (isFailure || isSlow) {
+                    transition(State.OPEN);
+                } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                    transition(State.CLOSED);
+                    closed = true;
+                }
+            } else if (state == State.CLOSED) {
+                failed[next] = isFailure;
+                slow[next] = isSlow;
+                next = (next + 1) % windowSize;
+                recorded = Math.min(recorded + 1, windowSize);
+                if (recorded >= minimumCalls && shouldOpen()) {
+                    transition(State.OPEN);
+                }
+            }
+        }
+        if (closed) {
+            // 구독자가 GPT 를 다시 호출하므로 락 밖에서 발행
+            eventPublisher.publishEvent(new GptCircuitClosedEvent());
+        }
+    }
+
+    private boolean shouldOpen() {
+        int failures = 0;
+        int slowCalls = 0;
+        for (int i = 0; i < recorded; i++) {
+            if (failed[i]) {
+                failures++;
+            }
+            if (slow[i]) {
+                slowCalls++;
+            }
+        }
+        return (double) failures / recorded >= failureRateThreshold
+                || (double) slowCalls / recorded >= slowCallRateThreshold;
+    }
+
+    private void transition(State target) {
+        log.warn("GPT 서킷 브레이커 {} → {}", state, target);
+        state = target;
+        switch (target) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                halfOpenPermits = 0;
+                halfOpenSuccesses = 0;
+            }
+            case CLOSED -> {
+                recorded = 0;
+                next = 0;
+            }
+        }
+        Counter.builder("openai.circuit.transition")
+                .tag("state", target.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
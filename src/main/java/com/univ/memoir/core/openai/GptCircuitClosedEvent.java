@@ -0,0 +1,7 @@
+package com.univ.memoir.core.openai;
+
+/**
+ * GPT 서킷 브레이커가 다시 닫혔을 때 발행 - 로컬 처리로 대체했던 결과를 다시 계산하는 데 사용
+ */
+public record GptCircuitClosedEvent() {
+}
@@ -0,0 +1,304 @@
+package com.univ.memoir.core.openai;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.config.RequestAbortScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 호출 헤징 - 꼬리 지연을 줄이기 위해 느린 호출에 같은 요청을 한 번 더 보낸다.
+ * - 용도별 최근 성공 지연 시간의 percentile 값(최소 min-delay)이 지나도 응답이 없으면 두 번째 요청을 보내고,
+ *   먼저 성공한 응답을 쓰고 나머지는 취소한다.
+ *   시도마다 RequestAbortScope 를 두어, 진 시도의 HTTP 요청을 끊고 커넥션/벌크헤드 permit/스레드를 바로 돌려받는다.
+ *   (블로킹 소켓 읽기는 인터럽트만으로는 풀리지 않는다)
+ * - 추가 호출은 예산 안에서만 보낸다. 호출마다 budget-ratio 만큼 적립하고 헤지 1건에 1을 쓰므로
+ *   추가 호출 수는 전체의 budget-ratio (+ budget-burst) 를 넘지 않는다.
+ * - 서킷 브레이커가 CLOSED 가 아니면 헤지하지 않는다. (HALF_OPEN 시험 호출을 헤지가 쓰지 않도록)
+ * - 지표: openai.hedge.calls / fired / won / skipped → 헤지 비율 = fired / calls, 승률 = won / fired
+ */
+@Slf4j
+@Component
+public class GptRequestHedger {
+
+    private final AsyncTaskExecutor executor;
+    private final GptCircuitBreaker circuitBreaker;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final double budgetRatio;
+    private final double budgetBurst;
+    private final Map<OpenAiUseCase, LatencyWindow> windows = new EnumMap<>(OpenAiUseCase.class);
+
+    // 헤지 예산 (this 로 동기화)
+    private double budget;
+
+    public GptRequestHedger(@Qualifier("gptHedgeExecutor") AsyncTaskExecutor executor,
+                            GptCircuitBreaker circuitBreaker,
+                            MeterRegistry meterRegistry,
+                            @Value("${openai.hedging.enabled:false}") boolean enabled,
+                            @Value("${openai.hedging.use-cases:keywords,categorization}") List<String> useCaseKeys,
+                            @Value("${openai.hedging.percentile:0.95}") double percentile,
+                            @Value("${openai.hedging.window-size:200}") int windowSize,
+                            @Value("${openai.hedging.min-samples:30}") int minSamples,
+                            @Value("${openai.hedging.min-delay:PT0.5S}") Duration minDelay,
+                            @Value("${openai.hedging.budget-ratio:0.05}") double budgetRatio,
+                            @Value("${openai.hedging.budget-burst:5}") double budgetBurst) {
+        this.executor = executor;
+        this.circuitBreaker = circuitBreaker;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.minSamples = Math.max(1, Math.min(minSamples, windowSize));
+        this.minDelayNanos = minDelay.toNanos();
+        this.budgetRatio = budgetRatio;
+        this.budgetBurst = Math.max(1, budgetBurst);
+
+        for (OpenAiUseCase useCase : OpenAiUseCase.values()) {
+            if (useCaseKeys.contains(useCase.getKey())) {
+                LatencyWindow window = new LatencyWindow(Math.max(1, windowSize));
+                windows.put(useCase, window);
+                Gauge.builder("openai.hedge.delay", window, w -> hedgeDelayNanos(w) / 1_000_000.0)
+                        .tag("use_case", useCase.getKey())
+                        .baseUnit("milliseconds")
+                        .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * attempt 를 실행하고 결과를 돌려준다. 헤징 대상이 아니면 호출 스레드에서 그대로 실행한다.
+     * attempt 는 여러 번, 여러 스레드에서 동시에 실행될 수 있어야 한다.
+     */
+    public <T> T execute(OpenAiUseCase useCase, Supplier<T> attempt) {
+        LatencyWindow window = windows.get(useCase);
+        if (!enabled || window == null) {
+            return attempt.get();
+        }
+
+        count("openai.hedge.calls", useCase);
+        deposit();
+
+        long delayNanos = hedgeDelayNanos(window);
+        HedgedCall<T> call = new HedgedCall<>(useCase, window, attempt);
+        if (delayNanos < 0 || !call.launch(false)) {
+            // 표본이 모자라거나 풀이 가득 찬 경우 - 헤징 없이 직접 실행하면서 지연 시간만 기록
+            long start = System.nanoTime();
+            T result = attempt.get();
+            window.record(System.nanoTime() - start);
+            return result;
+        }
+
+        try {
+            try {
+                return call.await(delayNanos);
+            } catch (TimeoutException e) {
+                // percentile 지연 초과 - 아래에서 헤지 여부 판단
+            }
+
+            if (circuitBreaker.state() != GptCircuitBreaker.State.CLOSED) {
+                skip(useCase, "circuit");
+            } else if (!withdraw()) {
+                skip(useCase, "budget");
+            } else if (!call.launch(true)) {
+                skip(useCase, "pool");
+            } else {
+                count("openai.hedge.fired", useCase);
+                log.debug("GPT 헤지 요청 - useCase: {}, delay: {}ms", useCase.getKey(), delayNanos / 1_000_000);
+            }
+            return call.await();
+        } finally {
+            call.cancelRemaining();
+        }
+    }
+
+    private long hedgeDelayNanos(LatencyWindow window) {
+        long latency = window.percentileNanos(percentile, minSamples);
+        return latency < 0 ? -1 : Math.max(latency, minDelayNanos);
+    }
+
+    private synchronized void deposit() {
+        budget = Math.min(budgetBurst, budget + budgetRatio);
+    }
+
+    private synchronized boolean withdraw() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        return true;
+    }
+
+    private void count(String name, OpenAiUseCase useCase) {
+        Counter.builder(name)
+                .tag("use_case", useCase.getKey())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void skip(OpenAiUseCase useCase, String reason) {
+        Counter.builder("openai.hedge.skipped")
+                .tag("use_case", useCase.getKey())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 원 요청과 헤지 요청 중 먼저 성공한 결과를 받는다. 둘 다 실패하면 마지막 예외를 던진다.
+     */
+    private final class HedgedCall<T> {
+
+        private final OpenAiUseCase useCase;
+        private final LatencyWindow window;
+        private final Supplier<T> attempt;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final List<Future<?>> attempts = new CopyOnWriteArrayList<>();
+        private final List<RequestAbortScope> scopes = new CopyOnWriteArrayList<>();
+
+        private HedgedCall(OpenAiUseCase useCase, LatencyWindow window, Supplier<T> attempt) {
+            this.useCase = useCase;
+            this.window = window;
+            this.attempt = attempt;
+        }
+
+        boolean launch(boolean hedge) {
+            pending.incrementAndGet();
+            RequestAbortScope scope = new RequestAbortScope();
+            scopes.add(scope);
+            try {
+                attempts.add(executor.submit(() -> run(hedge, scope)));
+                return true;
+            } catch (TaskRejectedException e) {
+                scopes.remove(scope);
+                pending.decrementAndGet();
+                return false;
+            }
+        }
+
+        private void run(boolean hedge, RequestAbortScope scope) {
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = scope.run(attempt);
+            } catch (Throwable t) {
+                if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(t);
+                }
+                return;
+            }
+            window.record(System.nanoTime() - start);
+            if (result.complete(value) && hedge) {
+                count("openai.hedge.won", useCase);
+            }
+        }
+
+        T await(long timeoutNanos) throws TimeoutException {
+            try {
+                return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw rethrow(e);
+            } catch (InterruptedException e) {
+                throw interrupted(e);
+            }
+        }
+
+        T await() {
+            try {
+                return result.get();
+            } catch (ExecutionException e) {
+                throw rethrow(e);
+            } catch (InterruptedException e) {
+                throw interrupted(e);
+            }
+        }
+
+        /**
+         * 인터럽트를 먼저 건 뒤 HTTP 요청을 끊는다. (끊긴 시도가 인터럽트 상태로 끝나 취소로 기록되도록)
+         */
+        void cancelRemaining() {
+            for (Future<?> future : attempts) {
+                future.cancel(true);
+            }
+            for (RequestAbortScope scope : scopes) {
+                scope.abort();
+            }
+        }
+
+        private RuntimeException rethrow(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                return runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return new IllegalStateException(cause);
+        }
+
+        private RuntimeException interrupted(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new IllegalStateException("GPT 응답 대기 중 인터럽트", e);
+        }
+    }
+
+    /**
+     * 최근 성공 호출의 지연 시간 링 버퍼
+     */
+    private static final class LatencyWindow {
+
+        private final long[] samples;
+        private int recorded;
+        private int next;
+
+        private LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            recorded = Math.min(recorded + 1, samples.length);
+        }
+
+        /**
+         * 표본이 minSamples 보다 적으면 -1
+         */
+        long percentileNanos(double percentile, int minSamples) {
+            long[] copy;
+            synchronized (this) {
+                if (recorded < minSamples) {
+                    return -1;
+                }
+                copy = Arrays.copyOf(samples, recorded);
+            }
+            Arrays.sort(copy);
+            int index = (int) Math.ceil(percentile * copy.length) - 1;
+            return copy[Math.max(0, Math.min(index, copy.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.univ.memoir.core.openai;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 응답 content 에서 JSON 을 꺼내 DTO 로 바로 읽는 공용 추출기
+ * - 첫 '{' / '[' 까지 한 번만 훑어 ```json 코드블록 표시와 앞쪽 설명문을 건너뛰고, 값이 끝나면 뒤쪽 텍스트는 읽지 않는다.
+ * - 정규식 치환이나 Map 중간 변환 없이 Jackson 토큰 스트림을 DTO 로 바로 바인딩한다.
+ * - 문자열 안의 제어문자, 잘못된 백슬래시 이스케이프는 파서 옵션으로 허용한다.
+ * - 배열은 원소 단위로 읽으므로, 응답이 중간에 잘려도 그때까지 완성된 원소는 돌려준다.
+ */
+@Slf4j
+@Component
+public class LlmJsonExtractor {
+
+    private final ObjectReader reader;
+
+    public LlmJsonExtractor(ObjectMapper objectMapper) {
+        this.reader = objectMapper.reader()
+                .with(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+                .with(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+                .with(JsonReadFeature.ALLOW_TRAILING_COMMA)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * content 의 첫 JSON 배열을 elementType 목록으로 읽는다. 배열이 없으면 빈 목록
+     */
+    public <T> List<T> readArray(String content, Class<T> elementType) {
+        List<T> result = new ArrayList<>();
+        int start = indexOf(content, '[');
+        if (start < 0) {
+            log.warn("GPT 응답에서 JSON 배열을 찾을 수 없습니다.");
+            return result;
+        }
+
+        ObjectReader elementReader = reader.forType(elementType);
+        char[] chars = content.toCharArray();
+        try (JsonParser parser = elementReader.createParser(chars, start, chars.length - start)) {
+            parser.nextToken(); // START_ARRAY
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                if (token == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                result.add(elementReader.readValue(parser));
+            }
+            if (token == null) {
+                log.warn("GPT 응답 배열이 닫히지 않았습니다. 완성된 원소 {}건만 사용합니다.", result.size());
+            }
+        } catch (IOException e) {
+            log.warn("GPT 응답 배열 파싱 중단 - 완성된 원소 {}건만 사용합니다. {}", result.size(), e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * content 의 첫 JSON 객체를 type 으로 읽는다.
+     *
+     * @throws IOException JSON 객체가 없거나 형식이 잘못된 경우
+     */
+    public <T> T readObject(String content, Class<T> type) throws IOException {
+        int start = indexOf(content, '{');
+        if (start < 0) {
+            throw new IOException("GPT 응답에서 JSON 객체를 찾을 수 없습니다.");
+        }
+
+        ObjectReader objectReader = reader.forType(type);
+        char[] chars = content.toCharArray();
+        try (JsonParser parser = objectReader.createParser(chars, start, chars.length - start)) {
+            parser.nextToken(); // START_OBJECT
+            return objectReader.readValue(parser);
+        }
+    }
+
+    private static int indexOf(String content, char open) {
+        if (content == null) {
+            return -1;
+        }
+        for (int i = 0; i < content.length(); i++) {
+            if (content.charAt(i) == open) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,290 @@
+package com.univ.memoir.core.openai;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.customException.OpenAiBusyException;
+import com.univ.memoir.api.exception.customException.OpenAiUnavailableException;
+import com.univ.memoir.config.RequestAbortScope;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * GPT 호출 단일 진입점
+ * - 요청/응답 모델을 한 곳에서 관리하고 choices[0].message.content 를 돌려준다.
+ * - 용도별 세마포어 벌크헤드로 동시 호출 수를 제한하여, GPT 지연이 Tomcat 스레드 전체를 점유하지 않도록 한다.
+ *   대기 시간(queue-timeout) 안에 슬롯을 얻지 못하면 즉시 503 으로 거절한다.
+ * - GptCircuitBreaker 가 열려 있으면 호출하지 않고 OpenAiUnavailableException 을 던진다. (호출자는 로컬 처리로 대체)
+ * - complete() 는 GptRequestHedger 를 거치므로, 설정된 용도는 응답이 늦으면 같은 요청을 한 번 더 보낸다.
+ * - 호출별 지연 시간과 토큰 사용량을 지표로 남긴다.
+ * - stream() 은 stream: true 로 호출하여 토큰을 도착하는 대로 전달한다.
+ *   서킷 브레이커에는 전체 시간 대신 첫 토큰까지의 시간을 기록한다. (긴 응답이 느린 호출로 잡히지 않도록)
+ */
+@Slf4j
+@Component
+public class OpenAiGateway {
+
+    private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final GptCircuitBreaker circuitBreaker;
+    private final GptRequestHedger requestHedger;
+    private final Map<OpenAiUseCase, Bulkhead> bulkheads = new EnumMap<>(OpenAiUseCase.class);
+
+    @Value("${openai.model}")
+    private String model;
+
+    @Value("${openai.api.base-url}${openai.uri}")
+    private String completionsUrl;
+
+    public OpenAiGateway(@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         Environment environment,
+                         GptCircuitBreaker circuitBreaker,
+                         GptRequestHedger requestHedger) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+        this.circuitBreaker = circuitBreaker;
+        this.requestHedger = requestHedger;
+    }
+
+    @PostConstruct
+    void initBulkheads() {
+        for (OpenAiUseCase useCase : OpenAiUseCase.values()) {
+            String prefix = "openai.bulkhead." + useCase.getKey();
+            int maxConcurrent = environment.getProperty(prefix + ".max-concurrent", Integer.class,
+                    useCase.getDefaultMaxConcurrent());
+            Duration queueTimeout = environment.getProperty(prefix + ".queue-timeout", Duration.class,
+                    useCase.getDefaultQueueTimeout());
+
+            Semaphore semaphore = new Semaphore(maxConcurrent, true);
+            bulkheads.put(useCase, new Bulkhead(semaphore, queueTimeout));
+
+            Gauge.builder("openai.bulkhead.available", semaphore, Semaphore::availablePermits)
+                    .tag("use_case", useCase.getKey())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 시스템/사용자 프롬프트로 GPT 를 호출하고 응답 content 를 반환
+     */
+    public String complete(OpenAiUseCase useCase, String systemPrompt, String userPrompt, double temperature) {
+        ChatCompletionRequest request = ChatCompletionRequest.of(model, systemPrompt, userPrompt, temperature);
+        return requestHedger.execute(useCase, () -> execute(useCase, request)).firstContent();
+    }
+
+    /**
+     * stream: true 로 호출하여 토큰이 도착할 때마다 onDelta 로 전달하고, 전체 content 를 반환
+     */
+    public String stream(OpenAiUseCase useCase, String systemPrompt, String userPrompt, double temperature,
+                         Consumer<String> onDelta) {
+        ChatCompletionRequest request = ChatCompletionRequest.streaming(model, systemPrompt, userPrompt, temperature);
+        FirstTokenClock firstToken = new FirstTokenClock();
+        return withBulkhead(useCase, firstToken, () -> restTemplate.execute(completionsUrl, HttpMethod.POST,
+                httpRequest -> {
+                    httpRequest.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    httpRequest.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    objectMapper.writeValue(httpRequest.getBody(), request);
+                },
+                httpResponse -> readStream(useCase, httpResponse.getBody(), firstToken, onDelta)));
+    }
+
+    private ChatCompletionResponse execute(OpenAiUseCase useCase, ChatCompletionRequest request) {
+        return withBulkhead(useCase, null, () -> {
+            ChatCompletionResponse response = restTemplate.postForObject(
+                    completionsUrl, request, ChatCompletionResponse.class);
+            if (response == null || !response.hasChoices()) {
+                throw new IllegalStateException("GPT 응답에 'choices'가 없습니다.");
+            }
+            recordUsage(useCase, response.usage());
+            return response;
+        });
+    }
+
+    /**
+     * firstToken 이 있으면(스트리밍) 서킷 브레이커에 첫 토큰까지의 시간을, 없으면 전체 시간을 기록한다.
+     * 헤지에 져서 취소(인터럽트 / RequestAbortScope.abort)된 호출은 서킷 브레이커에 실패/느린 호출로 기록하지 않는다.
+     */
+    private <T> T withBulkhead(OpenAiUseCase useCase, FirstTokenClock firstToken, Supplier<T> call) {
+        Bulkhead bulkhead = bulkheads.get(useCase);
+        acquire(useCase, bulkhead);
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.semaphore().release();
+            throw new OpenAiUnavailableException(ErrorCode.OPENAI_UNAVAILABLE);
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long start = System.nanoTime();
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            if (isInterruption(e)) {
+                outcome = "cancelled";
+            }
+            throw e;
+        } finally {
+            long end = System.nanoTime();
+            boolean success = outcome.equals("success");
+            if (outcome.equals("cancelled") || Thread.currentThread().isInterrupted()
+                    || RequestAbortScope.isCurrentAborted()) {
+                outcome = "cancelled";
+                circuitBreaker.onCancelled();
+            } else if (firstToken == null) {
+                long elapsed = end - start;
+                if (success) {
+                    circuitBreaker.onSuccess(useCase, elapsed);
+                } else {
+                    circuitBreaker.onError(useCase, elapsed);
+                }
+            } else {
+                long untilFirstToken = firstToken.elapsedSince(start, end);
+                if (success) {
+                    circuitBreaker.onStreamSuccess(untilFirstToken);
+                } else {
+                    circuitBreaker.onStreamError(untilFirstToken);
+                }
+            }
+            bulkhead.semaphore().release();
+            sample.stop(Timer.builder("openai.request")
+                    .tag("use_case", useCase.getKey())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 인터럽트로 끝난 호출인지 - SocketTimeoutException 도 InterruptedIOException 이므로 그 상위 타입으로는 보지 않는다.
+     */
+    private static boolean isInterruption(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException || cause instanceof ClosedByInterruptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * "data: {...}" 줄 단위 SSE 응답을 읽어 delta 를 전달 ("data: [DONE]" 에서 종료)
+     */
+    private String readStream(OpenAiUseCase useCase, InputStream body, FirstTokenClock firstToken,
+                              Consumer<String> onDelta) throws IOException {
+        StringBuilder content = new StringBuilder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+                firstToken.mark();
+                String data = line.substring(5).trim();
+                if (data.equals("[DONE]")) {
+                    break;
+                }
+                ChatCompletionChunk chunk = objectMapper.readValue(data, ChatCompletionChunk.class);
+                recordUsage(useCase, chunk.usage());
+                String delta = chunk.deltaContent();
+                if (!delta.isEmpty()) {
+                    content.append(delta);
+                    onDelta.accept(delta);
+                }
+            }
+        }
+        return content.toString();
+    }
+
+    private void acquire(OpenAiUseCase useCase, Bulkhead bulkhead) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.semaphore().tryAcquire(bulkhead.queueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            Counter.builder("openai.bulkhead.rejected")
+                    .tag("use_case", useCase.getKey())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("GPT 벌크헤드 포화로 요청 거절 - useCase: {}", useCase.getKey());
+            throw new OpenAiBusyException(ErrorCode.OPENAI_BUSY);
+        }
+    }
+
+    private void recordUsage(OpenAiUseCase useCase, ChatCompletionResponse.Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        Counter.builder("openai.tokens")
+                .tag("use_case", useCase.getKey())
+                .tag("type", "prompt")
+                .register(meterRegistry)
+                .increment(usage.promptTokens());
+        Counter.builder("openai.tokens")
+                .tag("use_case", useCase.getKey())
+                .tag("type", "completion")
+                .register(meterRegistry)
+                .increment(usage.completionTokens());
+    }
+
+    private record Bulkhead(Semaphore semaphore, Duration queueTimeout) {
+    }
+
+    /**
+     * 스트리밍 응답의 첫 data 줄 도착 시각 (요청 스레드에서만 쓰고 읽는다)
+     */
+    private static final class FirstTokenClock {
+
+        private long arrivedAt;
+
+        void mark() {
+            if (arrivedAt == 0) {
+                arrivedAt = System.nanoTime();
+            }
+        }
+
+        /**
+         * 첫 토큰이 오기 전에 끝났으면 끝날 때까지의 시간
+         */
+        long elapsedSince(long start, long end) {
+            return (arrivedAt == 0 ? end : arrivedAt) - start;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.univ.memoir.core.openai;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+/**
+ * GPT 호출 용도 - 용도별로 동시 호출 수(벌크헤드)와 지표를 분리한다.
+ * 서킷 브레이커의 느린 호출 기준도 용도별로 둔다. (짧은 분류 호출과 긴 요약 호출의 정상 지연이 다르므로)
+ */
+@Getter
+public enum OpenAiUseCase {
+    KEYWORDS("keywords", 8, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+    CATEGORIZATION("categorization", 16, Duration.ofSeconds(2), Duration.ofSeconds(10)),
+    SUMMARY("summary", 8, Duration.ofSeconds(2), Duration.ofSeconds(45)),
+    // 긴 하루의 시간대별 요약 (map 단계) - 최종 요약과 벌크헤드를 나눠, 블록 호출이 요약 permit 을 모두 쓰지 않게 한다.
+    SUMMARY_BLOCK("summary-block", 8, Duration.ofSeconds(5), Duration.ofSeconds(30));
+
+    private final String key;
+    private final int defaultMaxConcurrent;
+    private final Duration defaultQueueTimeout;
+    private final Duration defaultSlowCallDuration;
+
+    OpenAiUseCase(String key, int defaultMaxConcurrent, Duration defaultQueueTimeout,
+                  Duration defaultSlowCallDuration) {
+        this.key = key;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultQueueTimeout = defaultQueueTimeout;
+        this.defaultSlowCallDuration = defaultSlowCallDuration;
+    }
+}
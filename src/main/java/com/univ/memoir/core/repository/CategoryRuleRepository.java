@@ -0,0 +1,9 @@
+package com.univ.memoir.core.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import com.univ.memoir.core.domain.CategoryRule;
+
+public interface CategoryRuleRepository extends JpaRepository<CategoryRule, Long> {
+    List<CategoryRule> findAllByEnabledTrue();
+}
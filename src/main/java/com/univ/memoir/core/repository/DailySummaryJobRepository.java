@@ -0,0 +1,50 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.core.domain.DailySummaryJob;
+
+public interface DailySummaryJobRepository extends JpaRepository<DailySummaryJob, String> {
+
+    /**
+     * 이 서버(instanceId)가 실행하던 작업과, heartbeat 가 staleBefore 이전에 멈춘 작업
+     * (instance_id 가 없는 이전 기록도 포함)
+     */
+    @Query("""
+            select j from DailySummaryJob j
+            where j.status in :statuses
+              and (j.instanceId = :instanceId or j.instanceId is null or j.updatedAt < :staleBefore)
+            """)
+    List<DailySummaryJob> findInterrupted(@Param("statuses") Collection<DailySummaryJob.Status> statuses,
+                                          @Param("instanceId") String instanceId,
+                                          @Param("staleBefore") LocalDateTime staleBefore);
+
+    List<DailySummaryJob> findAllByStatusInAndUpdatedAtBefore(Collection<DailySummaryJob.Status> statuses,
+                                                              LocalDateTime staleBefore);
+
+    /**
+     * 진행 중인 작업의 heartbeat 갱신 - 이미 끝난 작업은 건드리지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            update DailySummaryJob j set j.updatedAt = :now
+            where j.id in :ids and j.status in :statuses
+            """)
+    int touchAll(@Param("ids") Collection<String> ids,
+                 @Param("statuses") Collection<DailySummaryJob.Status> statuses,
+                 @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from DailySummaryJob j where j.updatedAt < :cutoff")
+    int deleteAllUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
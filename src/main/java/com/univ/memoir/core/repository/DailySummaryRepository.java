@@ -4,12 +4,40 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
-import com.univ.memoir.core.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.univ.memoir.core.domain.DailySummary;
 
 public interface DailySummaryRepository extends JpaRepository<DailySummary, Long> {
-    Optional<DailySummary> findByUserAndDate(User user, LocalDate date);
-	List<DailySummary> findAllByUserAndDateBetween(User user, LocalDate start, LocalDate end);
+    Optional<DailySummary> findByUserIdAndDate(Long userId, LocalDate date);
+	List<DailySummary> findAllByUserIdAndDateBetween(Long userId, LocalDate start, LocalDate end);
+
+	/**
+	 * (user_id, date) 행이 없으면 만들고 있으면 내용 교체 - 동기/작업/스트리밍/복구 실행이 동시에 저장해도 한 행만 남는다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = """
+			INSERT INTO daily_summary (user_id, date, top_keywords_json, timeline_json, summary_text_json,
+			                           total_usage_minutes, activity_proportions_json)
+			VALUES (:userId, :date, :topKeywordsJson, :timelineJson, :summaryTextJson,
+			        :totalUsageMinutes, :activityProportionsJson)
+			ON DUPLICATE KEY UPDATE
+			    top_keywords_json = VALUES(top_keywords_json),
+			    timeline_json = VALUES(timeline_json),
+			    summary_text_json = VALUES(summary_text_json),
+			    total_usage_minutes = VALUES(total_usage_minutes),
+			    activity_proportions_json = VALUES(activity_proportions_json)
+			""", nativeQuery = true)
+	int upsert(@Param("userId") Long userId,
+			   @Param("date") LocalDate date,
+			   @Param("topKeywordsJson") String topKeywordsJson,
+			   @Param("timelineJson") String timelineJson,
+			   @Param("summaryTextJson") String summaryTextJson,
+			   @Param("totalUsageMinutes") int totalUsageMinutes,
+			   @Param("activityProportionsJson") String activityProportionsJson);
 }
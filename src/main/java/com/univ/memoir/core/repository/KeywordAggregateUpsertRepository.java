@@ -0,0 +1,36 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * keyword_daily_aggregate 와 주/월 롤업 배치 upsert (KeywordDailyAggregateRepository 의 구현 조각)
+ */
+public interface KeywordAggregateUpsertRepository {
+
+    /**
+     * keyword → 더할 빈도. 행이 없으면 만들고, 있으면 frequency 에 더한다. (일/주/월 집계 모두)
+     */
+    void upsertAll(Long userId, LocalDate date, Map<String, Integer> frequencies);
+
+    /**
+     * 하루치 빈도를 주/월 롤업에서 빼고, 0 이하가 된 행은 지운다. (일별 집계 삭제 전에 호출)
+     */
+    void subtractFromRollups(Long userId, LocalDate date, Map<String, Integer> frequencies);
+
+    /**
+     * 주/월 롤업 중 비어 있는 테이블이 있는지 (롤업 도입 전 일별 집계를 옮겨야 하는지)
+     */
+    boolean hasEmptyRollup();
+
+    /**
+     * 일별 집계가 있는 사용자 id
+     */
+    List<Long> findAggregatedUserIds();
+
+    /**
+     * 사용자의 주/월 롤업을 일별 집계의 합으로 다시 쓴다. 일별 행을 잠그고 읽으므로 트랜잭션 안에서 호출해야 한다.
+     */
+    void rebuildRollups(Long userId);
+}
@@ -0,0 +1,181 @@
+package com.univ.memoir.core.repository;
+
+import java.sql.Date;
+import java.text.Collator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.univ.memoir.core.domain.KeywordDailyAggregate;
+import com.univ.memoir.core.domain.KeywordTrendGranularity;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL INSERT ... ON DUPLICATE KEY UPDATE 배치
+ * - keyword 컬럼(utf8mb4_0900_ai_ci)은 대소문자/악센트를 구분하지 않으므로, "React" / "react" 처럼 같은 키로 취급되는
+ *   키워드는 보내기 전에 먼저 들어온 표기로 합친다. (Collator PRIMARY 비교)
+ * - 같은 Collator 순서로 정렬해 보내 동시 저장 간 잠금 순서가 엇갈릴 가능성을 줄인다.
+ *   Java Collator 와 MySQL 콜레이션의 순서가 모든 문자에서 같지는 않으므로 교착이 없다고 보장하지는 않는다.
+ * - JDBC URL 에 rewriteBatchedStatements=true 가 있으면 드라이버가 한 번의 multi-row INSERT 로 보낸다.
+ * - 일 → 주 → 월 순서로 같은 트랜잭션에서 갱신하므로 롤업은 일별 집계의 합과 항상 같다.
+ *   롤업 도입 전에 쌓인 일별 집계는 rebuildRollups 로 옮긴다. (KeywordRollupBackfill)
+ */
+@RequiredArgsConstructor
+public class KeywordAggregateUpsertRepositoryImpl implements KeywordAggregateUpsertRepository {
+
+    private static final String DAILY_UPSERT_SQL = upsertSql("keyword_daily_aggregate", "date");
+    private static final String WEEKLY_UPSERT_SQL = upsertSql("keyword_weekly_aggregate", "period_start");
+    private static final String MONTHLY_UPSERT_SQL = upsertSql("keyword_monthly_aggregate", "period_start");
+
+    private static final String WEEKLY_SUBTRACT_SQL = subtractSql("keyword_weekly_aggregate");
+    private static final String MONTHLY_SUBTRACT_SQL = subtractSql("keyword_monthly_aggregate");
+    private static final String WEEKLY_PRUNE_SQL = pruneSql("keyword_weekly_aggregate");
+    private static final String MONTHLY_PRUNE_SQL = pruneSql("keyword_monthly_aggregate");
+    private static final String WEEKLY_REPLACE_SQL = replaceSql("keyword_weekly_aggregate");
+    private static final String MONTHLY_REPLACE_SQL = replaceSql("keyword_monthly_aggregate");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(Long userId, LocalDate date, Map<String, Integer> frequencies) {
+        // 잘린 키워드, 대소문자/악센트만 다른 키워드끼리 합쳐질 수 있으므로 자른 뒤 다시 합산
+        Map<String, Integer> merged = new TreeMap<>(keywordCollator());
+        frequencies.forEach((keyword, frequency) -> {
+            if (keyword != null && !keyword.isBlank() && frequency != null && frequency > 0) {
+                merged.merge(truncate(keyword.strip()), frequency, Integer::sum);
+            }
+        });
+        if (merged.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(DAILY_UPSERT_SQL, rows(userId, date, merged));
+        jdbcTemplate.batchUpdate(WEEKLY_UPSERT_SQL,
+                rows(userId, KeywordTrendGranularity.WEEKLY.periodStart(date), merged));
+        jdbcTemplate.batchUpdate(MONTHLY_UPSERT_SQL,
+                rows(userId, KeywordTrendGranularity.MONTHLY.periodStart(date), merged));
+    }
+
+    @Override
+    public void subtractFromRollups(Long userId, LocalDate date, Map<String, Integer> frequencies) {
+        // 일별 집계에서 읽은 값이므로 이미 잘리고 합쳐져 있다. 정렬만 맞춘다.
+        Map<String, Integer> sorted = new TreeMap<>(keywordCollator());
+        sorted.putAll(frequencies);
+        if (sorted.isEmpty()) {
+            return;
+        }
+
+        Date week = Date.valueOf(KeywordTrendGranularity.WEEKLY.periodStart(date));
+        Date month = Date.valueOf(KeywordTrendGranularity.MONTHLY.periodStart(date));
+        jdbcTemplate.batchUpdate(WEEKLY_SUBTRACT_SQL, subtractRows(userId, week, sorted));
+        jdbcTemplate.batchUpdate(MONTHLY_SUBTRACT_SQL, subtractRows(userId, month, sorted));
+        jdbcTemplate.update(WEEKLY_PRUNE_SQL, userId, week);
+        jdbcTemplate.update(MONTHLY_PRUNE_SQL, userId, month);
+    }
+
+    @Override
+    public boolean hasEmptyRollup() {
+        return isEmpty("keyword_weekly_aggregate") || isEmpty("keyword_monthly_aggregate");
+    }
+
+    @Override
+    public List<Long> findAggregatedUserIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM keyword_daily_aggregate ORDER BY user_id", Long.class);
+    }
+
+    @Override
+    public void rebuildRollups(Long userId) {
+        // FOR UPDATE - 다시 쓰는 동안 같은 사용자의 저장이 끼어들어 롤업에 더한 값을 덮어쓰지 않도록
+        Map<LocalDate, Map<String, Integer>> weeks = new HashMap<>();
+        Map<LocalDate, Map<String, Integer>> months = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT date, keyword, frequency FROM keyword_daily_aggregate
+                WHERE user_id = ? FOR UPDATE
+                """, rs -> {
+            LocalDate date = rs.getDate("date").toLocalDate();
+            String keyword = rs.getString("keyword");
+            int frequency = rs.getInt("frequency");
+            weeks.computeIfAbsent(KeywordTrendGranularity.WEEKLY.periodStart(date),
+                    start -> new TreeMap<>(keywordCollator())).merge(keyword, frequency, Integer::sum);
+            months.computeIfAbsent(KeywordTrendGranularity.MONTHLY.periodStart(date),
+                    start -> new TreeMap<>(keywordCollator())).merge(keyword, frequency, Integer::sum);
+        }, userId);
+
+        List<Object[]> weeklyRows = new ArrayList<>();
+        weeks.forEach((start, frequencies) -> weeklyRows.addAll(rows(userId, start, frequencies)));
+        List<Object[]> monthlyRows = new ArrayList<>();
+        months.forEach((start, frequencies) -> monthlyRows.addAll(rows(userId, start, frequencies)));
+        jdbcTemplate.batchUpdate(WEEKLY_REPLACE_SQL, weeklyRows);
+        jdbcTemplate.batchUpdate(MONTHLY_REPLACE_SQL, monthlyRows);
+    }
+
+    private boolean isEmpty(String table) {
+        return jdbcTemplate.queryForList("SELECT 1 FROM %s LIMIT 1".formatted(table), Integer.class).isEmpty();
+    }
+
+    /**
+     * keyword 컬럼 콜레이션(utf8mb4_0900_ai_ci)에 맞춰 대소문자/악센트를 무시하고 비교
+     */
+    private static Collator keywordCollator() {
+        Collator collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+        return collator;
+    }
+
+    private static List<Object[]> rows(Long userId, LocalDate periodStart, Map<String, Integer> frequencies) {
+        Date sqlDate = Date.valueOf(periodStart);
+        List<Object[]> rows = new ArrayList<>(frequencies.size());
+        frequencies.forEach((keyword, frequency) -> rows.add(new Object[]{userId, sqlDate, keyword, frequency}));
+        return rows;
+    }
+
+    private static List<Object[]> subtractRows(Long userId, Date periodStart, Map<String, Integer> frequencies) {
+        List<Object[]> rows = new ArrayList<>(frequencies.size());
+        frequencies.forEach((keyword, frequency) -> rows.add(new Object[]{frequency, userId, periodStart, keyword}));
+        return rows;
+    }
+
+    private static String upsertSql(String table, String dateColumn) {
+        return """
+                INSERT INTO %s (user_id, %s, keyword, frequency)
+                VALUES (?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE frequency = frequency + VALUES(frequency)
+                """.formatted(table, dateColumn);
+    }
+
+    /**
+     * 롤업 재작성용 - 더하지 않고 일별 집계의 합으로 덮어쓴다. (여러 번 실행해도 결과가 같다)
+     */
+    private static String replaceSql(String table) {
+        return """
+                INSERT INTO %s (user_id, period_start, keyword, frequency)
+                VALUES (?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE frequency = VALUES(frequency)
+                """.formatted(table);
+    }
+
+    private static String subtractSql(String table) {
+        return """
+                UPDATE %s SET frequency = frequency - ?
+                WHERE user_id = ? AND period_start = ? AND keyword = ?
+                """.formatted(table);
+    }
+
+    private static String pruneSql(String table) {
+        return "DELETE FROM %s WHERE user_id = ? AND period_start = ? AND frequency <= 0".formatted(table);
+    }
+
+    private static String truncate(String keyword) {
+        return keyword.length() <= KeywordDailyAggregate.MAX_KEYWORD_LENGTH
+                ? keyword
+                : keyword.substring(0, KeywordDailyAggregate.MAX_KEYWORD_LENGTH);
+    }
+}
@@ -6,10 +6,9 @@ import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.univ.memoir.core.domain.KeywordData;
-import com.univ.memoir.core.domain.User;
 
 public interface KeywordDataRepository extends JpaRepository<KeywordData, Long> {
-    List<KeywordData> findByUser(User user);
+    List<KeywordData> findByUserId(Long userId);
 
-    List<KeywordData> findByUserAndCreatedAtBetween(User user, LocalDateTime startOfDay, LocalDateTime endOfDay);
+    List<KeywordData> findByUserIdAndCreatedAtBetween(Long userId, LocalDateTime startOfDay, LocalDateTime endOfDay);
 }
@@ -0,0 +1,43 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.univ.memoir.core.domain.KeywordMonthlyAggregate;
+
+public interface KeywordMonthlyAggregateRepository extends JpaRepository<KeywordMonthlyAggregate, Long> {
+
+    /**
+     * 기간마다 빈도 상위 9개만 - 행 수는 기간 수 × 9 를 넘지 않는다.
+     */
+    @Query(value = "select t.period_start as periodStart, t.keyword as keyword, t.frequency as frequency"
+            + " from (select k.period_start as period_start, k.keyword, k.frequency,"
+            + "   row_number() over (partition by k.period_start order by k.frequency desc, k.keyword) as period_rank"
+            + "   from keyword_monthly_aggregate k"
+            + "   where k.user_id = :userId and k.period_start between :from and :to) t"
+            + " where t.period_rank <= 9"
+            + " order by t.period_start, t.period_rank", nativeQuery = true)
+    List<KeywordPeriodFrequency> findTrend(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    /**
+     * 구간 전체 키워드별 빈도 합 - pageable 크기만큼 빈도 내림차순
+     */
+    @Query("select k.keyword as keyword, sum(k.frequency) as frequency"
+            + " from KeywordMonthlyAggregate k"
+            + " where k.userId = :userId and k.periodStart between :from and :to"
+            + " group by k.keyword"
+            + " order by sum(k.frequency) desc, k.keyword")
+    List<KeywordTotalFrequency> findTotals(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to,
+                                           Pageable pageable);
+
+    List<KeywordMonthlyAggregate> findAllByUserIdAndPeriodStart(Long userId, LocalDate periodStart);
+}
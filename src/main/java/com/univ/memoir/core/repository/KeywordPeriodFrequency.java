@@ -0,0 +1,15 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 일/주/월 집계 테이블 공통 조회 결과 (기간 시작일, 키워드, 빈도)
+ */
+public interface KeywordPeriodFrequency {
+
+    LocalDate getPeriodStart();
+
+    String getKeyword();
+
+    int getFrequency();
+}
@@ -0,0 +1,11 @@
+package com.univ.memoir.core.repository;
+
+/**
+ * 일/주/월 집계 테이블 구간 합계 조회 결과 (키워드, 빈도 합)
+ */
+public interface KeywordTotalFrequency {
+
+    String getKeyword();
+
+    long getFrequency();
+}
@@ -0,0 +1,24 @@
+package com.univ.memoir.core.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.core.domain.PageCategoryCache;
+
+public interface PageCategoryCacheRepository
+        extends JpaRepository<PageCategoryCache, Long>, PageCategoryCacheUpsertRepository {
+
+    List<PageCategoryCache> findAllByCacheKeyIn(Collection<String> cacheKeys);
+
+    @Transactional
+    @Modifying
+    @Query("delete from PageCategoryCache p where p.updatedAt < :cutoff")
+    int deleteAllUpdatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
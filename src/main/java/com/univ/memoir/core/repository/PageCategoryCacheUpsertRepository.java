@@ -0,0 +1,21 @@
+package com.univ.memoir.core.repository;
+
+import java.util.List;
+
+import com.univ.memoir.core.domain.PageCategoryCache;
+
+/**
+ * page_category_cache 행 단위 upsert (PageCategoryCacheRepository 의 구현 조각)
+ */
+public interface PageCategoryCacheUpsertRepository {
+
+    /**
+     * 분류 결과 한 건씩 반영 - 행이 없으면 samples 1 로 만들고,
+     * 있으면 같은 카테고리일 때 samples 를 1 올리고 다르면 새 카테고리로 바꾼 뒤 1부터 다시 센다.
+     * 같은 키가 여러 번 오면 순서대로 각각 반영한다.
+     */
+    void upsertAll(List<Entry> entries);
+
+    record Entry(String cacheKey, PageCategoryCache.KeyType keyType, String category) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.univ.memoir.core.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL INSERT ... ON DUPLICATE KEY UPDATE 배치
+ * - 읽고 고쳐 쓰지 않고 DB 에서 한 행씩 갱신하므로, 동시 요청이 같은 키를 저장해도 unique key 충돌이나 samples 유실이 없다.
+ * - samples 를 category 보다 먼저 갱신해야 기존 category 와 비교된다. (MySQL 은 SET 절을 왼쪽부터 적용)
+ */
+@RequiredArgsConstructor
+public class PageCategoryCacheUpsertRepositoryImpl implements PageCategoryCacheUpsertRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO page_category_cache (cache_key, key_type, category, samples, updated_at)
+            VALUES (?, ?, ?, 1, ?)
+            ON DUPLICATE KEY UPDATE
+                samples = CASE WHEN category = VALUES(category) THEN samples + 1 ELSE 1 END,
+                category = VALUES(category),
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            rows.add(new Object[]{entry.cacheKey(), entry.keyType().name(), entry.category(), now});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+}
@@ -3,9 +3,32 @@ package com.univ.memoir.core.repository;
 import java.time.LocalDate;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.univ.memoir.core.domain.TimeAnalysisData;
-import com.univ.memoir.core.domain.User;
 
 public interface TimeAnalysisDataRepository extends JpaRepository<TimeAnalysisData, Long> {
-    Optional<TimeAnalysisData> findByUserAndDate(User user, LocalDate date);
-}
\ No newline at end of file
+    Optional<TimeAnalysisData> findByUserIdAndDate(Long userId, LocalDate date);
+
+    /**
+     * (user_id, date) 행이 없으면 만들고 있으면 내용 교체 - 동시에 분석해도 한 행만 남는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO time_analysis_data (user_id, date, total_usage_minutes, category_summaries_json,
+                                            hourly_breakdowns_json)
+            VALUES (:userId, :date, :totalUsageMinutes, :categorySummariesJson, :hourlyBreakdownsJson)
+            ON DUPLICATE KEY UPDATE
+                total_usage_minutes = VALUES(total_usage_minutes),
+                category_summaries_json = VALUES(category_summaries_json),
+                hourly_breakdowns_json = VALUES(hourly_breakdowns_json)
+            """, nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("date") LocalDate date,
+               @Param("totalUsageMinutes") int totalUsageMinutes,
+               @Param("categorySummariesJson") String categorySummariesJson,
+               @Param("hourlyBreakdownsJson") String hourlyBreakdownsJson);
+}
@@ -1,11 +1,15 @@
 package com.univ.memoir.core.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.domain.UserSnapshot;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -13,5 +17,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    @Query("select u.tokenVersion from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    @Query("select u.id, u.email, u.status, i from User u left join u.interests i where u.email = :email")
+    List<Object[]> findSnapshotRowsByEmail(@Param("email") String email);
+
+    @Query("select u.id, u.email, u.status, i from User u left join u.interests i where u.id = :id")
+    List<Object[]> findSnapshotRowsById(@Param("id") Long id);
+
+    /**
+     * 인증 경로용 경량 조회 - 북마크 컬렉션 없이 단일 쿼리로 스냅샷 생성
+     */
+    default Optional<UserSnapshot> findSnapshotById(Long id) {
+        return UserSnapshot.fromRows(findSnapshotRowsById(id));
+    }
+
+    /**
+     * uid 클레임이 없는 (이메일 subject) 기존 토큰용
+     */
+    default Optional<UserSnapshot> findSnapshotByEmail(String email) {
+        return UserSnapshot.fromRows(findSnapshotRowsByEmail(email));
+    }
 }
 
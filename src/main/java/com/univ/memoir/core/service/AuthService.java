@@ -1,15 +1,20 @@
 package com.univ.memoir.core.service;
 
+import java.util.Optional;
+
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.univ.memoir.api.dto.res.AuthResponse;
 import com.univ.memoir.api.exception.codes.ErrorCode;
 import com.univ.memoir.api.exception.customException.InvalidTokenException;
+import com.univ.memoir.config.jwt.AuthUser;
 import com.univ.memoir.config.jwt.JwtProvider;
+import com.univ.memoir.config.jwt.TokenVersionStore;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.UserRepository;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -19,27 +24,34 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final TokenVersionStore tokenVersionStore;
 
     /**
      * 리프레시 토큰으로 새로운 토큰 쌍 발급 (간단 버전)
+     * 토큰 원문을 DB에 쓰지 않으므로 읽기 전용 트랜잭션으로 처리
      */
-    @Transactional
     public AuthResponse refreshAccessToken(String refreshToken) {
-        if (!jwtProvider.validateToken(refreshToken)) {
+        Claims claims = jwtProvider.parseClaims(refreshToken);
+        if (claims == null) {
             throw new InvalidTokenException(ErrorCode.INVALID_JWT_REFRESH_TOKEN);
         }
 
-        String email = jwtProvider.getEmailFromToken(refreshToken);
+        Long userId = jwtProvider.getUserId(claims);
+        Optional<User> found = userId != null
+                ? userRepository.findById(userId)
+                : userRepository.findByEmail(claims.getSubject()); // uid 클레임 이전 토큰
 
-        User user = userRepository.findByEmail(email)
+        User user = found
                 .filter(User::isActive)
                 .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
 
-        String newAccessToken = jwtProvider.createAccessToken(email);
-        String newRefreshToken = jwtProvider.createRefreshToken(email);
+        // 로그아웃/탈퇴로 폐기된 리프레시 토큰 차단
+        if (!tokenVersionStore.isCurrent(user.getId(), jwtProvider.getTokenVersion(claims))) {
+            throw new InvalidTokenException(ErrorCode.INVALID_JWT_REFRESH_TOKEN);
+        }
 
-        user.updateAccessToken(newAccessToken);
-        userRepository.save(user);
+        String newAccessToken = jwtProvider.createAccessToken(user);
+        String newRefreshToken = jwtProvider.createRefreshToken(user);
 
         return AuthResponse.builder()
                 .accessToken(newAccessToken)
@@ -51,28 +63,15 @@ public class AuthService {
     }
 
     /**
-     * 로그아웃 (간단 버전)
+     * 로그아웃 - 토큰 버전을 올려 기존 액세스/리프레시 토큰을 모두 폐기
      */
     @Transactional
-    public void logout(String email) {
-        userRepository.findByEmail(email)
+    public void logout(AuthUser authUser) {
+        userRepository.findById(authUser.id())
                 .ifPresent(user -> {
-                    user.updateAccessToken(null);
+                    user.revokeTokens();
                     userRepository.save(user);
+                    tokenVersionStore.update(user.getId(), user.getTokenVersion());
                 });
     }
-
-    /**
-     * 토큰에서 이메일 추출 (UserService용)
-     */
-    public String extractEmailFromToken(String accessToken) {
-        String cleanToken = accessToken.startsWith("Bearer ") ?
-                accessToken.substring(7).trim() : accessToken.trim();
-
-        if (!jwtProvider.validateToken(cleanToken)) {
-            throw new InvalidTokenException(ErrorCode.INVALID_JWT_ACCESS_TOKEN);
-        }
-
-        return jwtProvider.getEmailFromToken(cleanToken);
-    }
 }
\ No newline at end of file
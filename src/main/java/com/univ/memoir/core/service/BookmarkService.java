@@ -11,6 +11,7 @@ import com.univ.memoir.api.exception.codes.ErrorCode;
 import com.univ.memoir.api.exception.codes.SuccessCode;
 import com.univ.memoir.api.exception.customException.InvalidTokenException;
 import com.univ.memoir.api.exception.responses.SuccessResponse;
+import com.univ.memoir.config.jwt.AuthUser;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.UserRepository;
 
@@ -22,22 +23,22 @@ import lombok.RequiredArgsConstructor;
 public class BookmarkService {
 
     private final UserRepository userRepository;
-    private final AuthService authService;
 
     /**
      * 북마크 목록 조회
      */
-    public SuccessResponse<Set<String>> getBookmarks(String accessToken) {
-        User user = findActiveUserByToken(accessToken);
-        return SuccessResponse.of(SuccessCode.BOOKMARK_RETRIEVE_SUCCESS, user.getBookmarks()).getBody();
+    public SuccessResponse<Set<String>> getBookmarks(AuthUser authUser) {
+        User user = findActiveUser(authUser);
+        // 지연 로딩 컬렉션이므로 트랜잭션 안에서 복사해 반환
+        return SuccessResponse.of(SuccessCode.BOOKMARK_RETRIEVE_SUCCESS, Set.copyOf(user.getBookmarks())).getBody();
     }
 
     /**
      * 북마크 추가
      */
     @Transactional
-    public SuccessResponse<String> addBookmark(String accessToken, BookmarkRequestDto requestDto) {
-        User user = findActiveUserByToken(accessToken);
+    public SuccessResponse<String> addBookmark(AuthUser authUser, BookmarkRequestDto requestDto) {
+        User user = findActiveUser(authUser);
         user.addBookmarkUrl(requestDto.getUrl());
         return SuccessResponse.of(SuccessCode.BOOKMARK_ADD_SUCCESS, requestDto.getUrl()).getBody();
     }
@@ -46,8 +47,8 @@ public class BookmarkService {
      * 북마크 삭제
      */
     @Transactional
-    public SuccessResponse<String> removeBookmark(String accessToken, BookmarkRequestDto requestDto) {
-        User user = findActiveUserByToken(accessToken);
+    public SuccessResponse<String> removeBookmark(AuthUser authUser, BookmarkRequestDto requestDto) {
+        User user = findActiveUser(authUser);
         user.removeBookmarkUrl(requestDto.getUrl());
         return SuccessResponse.of(SuccessCode.BOOKMARK_REMOVE_SUCCESS, requestDto.getUrl()).getBody();
     }
@@ -56,20 +57,22 @@ public class BookmarkService {
      * 북마크 수정 (기존 URL 삭제 후 새 URL 추가)
      */
     @Transactional
-    public SuccessResponse<String> updateBookmark(String accessToken, BookmarkUpdateRequestDto requestDto) {
-        User user = findActiveUserByToken(accessToken);
+    public SuccessResponse<String> updateBookmark(AuthUser authUser, BookmarkUpdateRequestDto requestDto) {
+        User user = findActiveUser(authUser);
         user.removeBookmarkUrl(requestDto.getOldUrl());
         user.addBookmarkUrl(requestDto.getNewUrl());
         return SuccessResponse.of(SuccessCode.BOOKMARK_UPDATE_SUCCESS, requestDto.getNewUrl()).getBody();
     }
 
     /**
-     * 토큰으로 활성 사용자 조회 (중복 제거)
+     * 인증 주체로 활성 사용자 조회 (중복 제거)
      */
-    private User findActiveUserByToken(String accessToken) {
-        String email = authService.extractEmailFromToken(accessToken);
+    private User findActiveUser(AuthUser authUser) {
+        if (!authUser.isActive()) {
+            throw new InvalidTokenException(ErrorCode.USER_NOT_FOUND);
+        }
 
-        return userRepository.findByEmail(email)
+        return userRepository.findById(authUser.id())
                 .filter(User::isActive)
                 .orElseThrow(() -> new InvalidTokenException(ErrorCode.USER_NOT_FOUND));
     }
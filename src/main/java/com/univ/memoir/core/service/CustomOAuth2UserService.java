@@ -45,7 +45,6 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
                     .email(email)
                     .name(name)
                     .profileUrl(picture)
-                    .accessToken(null) // 나중에 핸들러에서 설정
                     .build();
             userRepository.save(user);
             isNewUser = true;
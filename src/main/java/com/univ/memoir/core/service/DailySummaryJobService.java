@@ -0,0 +1,345 @@
+package com.univ.memoir.core.service;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
+import com.univ.memoir.api.dto.res.DailySummaryJobResponse;
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.customException.InvalidSummaryRequestException;
+import com.univ.memoir.api.exception.customException.SummaryJobNotFoundException;
+import com.univ.memoir.api.exception.customException.SummaryJobQueueFullException;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.core.domain.DailySummaryJob;
+import com.univ.memoir.core.repository.DailySummaryJobRepository;
+
+/**
+ * 비동기 일일 요약 작업 관리
+ * - 요청 스레드는 작업을 등록만 하고 바로 반환하며, 요약은 dailySummaryJobExecutor 에서 실행한다.
+ * - 작업 상태는 메모리에 ttl 동안 보관하고, daily_summary_job 테이블에도 기록하여 재시작/TTL 이후에도 조회할 수 있다.
+ * - 기록에는 실행하는 서버(instance-id)를 남기고, 진행 중인 작업은 heartbeat-interval 마다 updated_at 을 갱신한다.
+ *   재시작 시에는 이 서버의 작업만, 그 밖에는 heartbeat 가 stale-after 이상 멈춘 작업만 실패로 기록한다. (다른 서버의 작업은 건드리지 않는다)
+ * - 완료 알림은 SSE 로 받을 수 있다.
+ */
+@Service
+public class DailySummaryJobService {
+
+	private static final Logger log = LoggerFactory.getLogger(DailySummaryJobService.class);
+
+	private static final String EVENT_NAME = "status";
+
+	private static final List<DailySummaryJob.Status> IN_PROGRESS =
+			List.of(DailySummaryJob.Status.PENDING, DailySummaryJob.Status.RUNNING);
+
+	private final DailySummaryService dailySummaryService;
+	private final DailySummaryJobRepository jobRepository;
+	private final Executor jobExecutor;
+	private final String instanceId;
+	private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+	@Value("${daily-summary.job.ttl:PT10M}")
+	private Duration ttl;
+
+	@Value("${daily-summary.job.retention:P1D}")
+	private Duration retention;
+
+	@Value("${daily-summary.job.sse-timeout:PT2M}")
+	private Duration sseTimeout;
+
+	@Value("${daily-summary.job.stale-after:PT3M}")
+	private Duration staleAfter;
+
+	public DailySummaryJobService(
+			DailySummaryService dailySummaryService,
+			DailySummaryJobRepository jobRepository,
+			@Qualifier("dailySummaryJobExecutor") Executor jobExecutor,
+			@Value("${daily-summary.job.instance-id:}") String instanceId
+	) {
+		this.dailySummaryService = dailySummaryService;
+		this.jobRepository = jobRepository;
+		this.jobExecutor = jobExecutor;
+		this.instanceId = instanceId.isBlank() ? defaultInstanceId() : instanceId;
+	}
+
+	/**
+	 * 요약 작업 등록 - 작업 큐가 가득 차면 503
+	 */
+	public DailySummaryJobResponse submit(AuthUser authUser, TimeAnalysisRequest request) {
+		LocalDate date = parseDate(request.getDate());
+		if (request.getVisitedPages() == null || request.getVisitedPages().isEmpty()) {
+			throw new InvalidSummaryRequestException(ErrorCode.EMPTY_VISITED_PAGES);
+		}
+
+		JobState state = new JobState(UUID.randomUUID().toString(), authUser.id(), date);
+		jobs.put(state.id, state);
+		persist(state);
+
+		try {
+			jobExecutor.execute(() -> run(state, authUser, request));
+		} catch (RejectedExecutionException e) {
+			jobs.remove(state.id);
+			state.fail(ErrorCode.SUMMARY_JOB_QUEUE_FULL.getMessage());
+			persist(state);
+			throw new SummaryJobQueueFullException(ErrorCode.SUMMARY_JOB_QUEUE_FULL);
+		}
+		return state.toResponse();
+	}
+
+	/**
+	 * 작업 상태 조회 - 메모리에 없으면 DB 기록으로 응답
+	 * DB 기록으로 응답할 때의 result 는 이 작업이 만든 결과가 아니라, 조회 시점에 daily_summary 에 있는 그 날짜의 요약이다.
+	 * (날짜당 한 행을 덮어쓰므로 이후의 재요약/스트리밍/복구 실행이 있었다면 그 결과가 반환된다.)
+	 */
+	public DailySummaryJobResponse get(AuthUser authUser, String jobId) {
+		JobState state = jobs.get(jobId);
+		if (state != null) {
+			if (!state.userId.equals(authUser.id())) {
+				throw new SummaryJobNotFoundException(ErrorCode.SUMMARY_JOB_NOT_FOUND);
+			}
+			return state.toResponse();
+		}
+
+		DailySummaryJob job = jobRepository.findById(jobId)
+				.filter(j -> j.getUserId().equals(authUser.id()))
+				.orElseThrow(() -> new SummaryJobNotFoundException(ErrorCode.SUMMARY_JOB_NOT_FOUND));
+
+		DailySummaryService.DailySummaryResult result = job.getStatus() == DailySummaryJob.Status.SUCCEEDED
+				? dailySummaryService.getDaily(authUser, job.getDate())
+				: null;
+		return new DailySummaryJobResponse(job.getId(), job.getStatus(), job.getDate().toString(), result,
+				job.getErrorMessage());
+	}
+
+	/**
+	 * 작업 상태 구독 - 현재 상태를 바로 보내고, 완료되면 최종 상태를 보낸 뒤 스트림을 닫는다.
+	 */
+	public SseEmitter subscribe(AuthUser authUser, String jobId) {
+		SseEmitter emitter = new SseEmitter(sseTimeout.toMillis());
+		JobState state = jobs.get(jobId);
+
+		if (state == null || !state.userId.equals(authUser.id())) {
+			DailySummaryJobResponse response = get(authUser, jobId);
+			send(emitter, response);
+			emitter.complete();
+			return emitter;
+		}
+
+		emitter.onCompletion(() -> state.removeListener(emitter));
+		emitter.onTimeout(() -> state.removeListener(emitter));
+		state.addListener(emitter);
+		return emitter;
+	}
+
+	/**
+	 * 재시작으로 중단된 작업은 실패로 기록 - 이 서버가 실행하던 작업과 heartbeat 가 멈춘 작업만
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void failInterruptedJobs() {
+		try {
+			List<DailySummaryJob> interrupted = jobRepository.findInterrupted(
+					IN_PROGRESS, instanceId, LocalDateTime.now().minus(staleAfter));
+			interrupted.forEach(job -> job.fail("서버 재시작으로 작업이 중단되었습니다. 다시 요청해주세요."));
+			jobRepository.saveAll(interrupted);
+		} catch (DataAccessException e) {
+			log.warn("중단된 요약 작업 정리 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 진행 중인 작업의 heartbeat 를 갱신하고, heartbeat 가 멈춘 다른 서버의 작업(서버 중단)은 실패로 기록
+	 */
+	@Scheduled(fixedDelayString = "${daily-summary.job.heartbeat-interval:PT30S}")
+	public void heartbeat() {
+		List<String> running = jobs.values().stream()
+				.filter(state -> !state.isDone())
+				.map(state -> state.id)
+				.toList();
+		try {
+			if (!running.isEmpty()) {
+				jobRepository.touchAll(running, IN_PROGRESS, LocalDateTime.now());
+			}
+
+			List<DailySummaryJob> stale = jobRepository.findAllByStatusInAndUpdatedAtBefore(
+					IN_PROGRESS, LocalDateTime.now().minus(staleAfter)).stream()
+					.filter(job -> !jobs.containsKey(job.getId()))
+					.toList();
+			stale.forEach(job -> job.fail("서버 중단으로 작업이 중단되었습니다. 다시 요청해주세요."));
+			jobRepository.saveAll(stale);
+		} catch (DataAccessException e) {
+			log.warn("요약 작업 heartbeat 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 완료 후 ttl 이 지난 작업은 메모리에서, retention 이 지난 작업은 DB 에서 제거
+	 */
+	@Scheduled(fixedDelayString = "${daily-summary.job.cleanup-interval:PT1M}")
+	public void evictExpired() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime memoryCutoff = now.minus(ttl);
+		jobs.values().removeIf(state -> state.isDone() && state.updatedAt.isBefore(memoryCutoff));
+
+		try {
+			jobRepository.deleteAllUpdatedBefore(now.minus(retention));
+		} catch (DataAccessException e) {
+			log.warn("만료된 요약 작업 삭제 실패: {}", e.getMessage());
+		}
+	}
+
+	private void run(JobState state, AuthUser authUser, TimeAnalysisRequest request) {
+		state.start();
+		persist(state);
+
+		try {
+			state.succeed(dailySummaryService.summarizeDay(authUser, request));
+		} catch (GlobalException e) {
+			state.fail(e.getErrorCode().getMessage());
+		} catch (Exception e) {
+			log.error("일일 요약 작업 실패 - jobId: {}", state.id, e);
+			state.fail("일일 요약 생성에 실패했습니다.");
+		}
+
+		persist(state);
+		for (SseEmitter emitter : state.drainListeners()) {
+			send(emitter, state.toResponse());
+			emitter.complete();
+		}
+	}
+
+	/**
+	 * 작업을 등록하기 전에 검증 - 형식이 잘못된 날짜는 400
+	 */
+	private static LocalDate parseDate(String date) {
+		if (date == null) {
+			throw new InvalidSummaryRequestException(ErrorCode.INVALID_SUMMARY_DATE);
+		}
+		try {
+			return LocalDate.parse(date);
+		} catch (DateTimeParseException e) {
+			throw new InvalidSummaryRequestException(ErrorCode.INVALID_SUMMARY_DATE);
+		}
+	}
+
+	private void persist(JobState state) {
+		try {
+			jobRepository.save(state.toEntity());
+		} catch (DataAccessException e) {
+			// 상태 기록은 재시작 대비용 - 실패해도 메모리 상태로 계속 진행
+			log.warn("요약 작업 상태 저장 실패 - jobId: {}, {}", state.id, e.getMessage());
+		}
+	}
+
+	private static String defaultInstanceId() {
+		try {
+			return InetAddress.getLocalHost().getHostName();
+		} catch (UnknownHostException e) {
+			return UUID.randomUUID().toString();
+		}
+	}
+
+	private void send(SseEmitter emitter, DailySummaryJobResponse response) {
+		try {
+			emitter.send(SseEmitter.event().name(EVENT_NAME).data(response));
+		} catch (IOException | IllegalStateException e) {
+			log.debug("SSE 전송 실패 (연결 종료) - jobId: {}", response.jobId());
+		}
+	}
+
+	/**
+	 * 메모리상의 작업 상태 - 상태 변경과 구독자 목록은 이 객체로 동기화
+	 */
+	private final class JobState {
+		private final String id;
+		private final Long userId;
+		private final LocalDate date;
+		private final LocalDateTime createdAt = LocalDateTime.now();
+		private final List<SseEmitter> listeners = new ArrayList<>();
+
+		private DailySummaryJob.Status status = DailySummaryJob.Status.PENDING;
+		private DailySummaryService.DailySummaryResult result;
+		private String errorMessage;
+		private LocalDateTime updatedAt = createdAt;
+
+		private JobState(String id, Long userId, LocalDate date) {
+			this.id = id;
+			this.userId = userId;
+			this.date = date;
+		}
+
+		synchronized void start() {
+			status = DailySummaryJob.Status.RUNNING;
+			updatedAt = LocalDateTime.now();
+		}
+
+		synchronized void succeed(DailySummaryService.DailySummaryResult result) {
+			this.status = DailySummaryJob.Status.SUCCEEDED;
+			this.result = result;
+			this.updatedAt = LocalDateTime.now();
+		}
+
+		synchronized void fail(String errorMessage) {
+			this.status = DailySummaryJob.Status.FAILED;
+			this.errorMessage = errorMessage;
+			this.updatedAt = LocalDateTime.now();
+		}
+
+		synchronized boolean isDone() {
+			return status.isDone();
+		}
+
+		/**
+		 * 이미 끝난 작업이면 최종 상태를 바로 보내고 닫는다.
+		 */
+		synchronized void addListener(SseEmitter emitter) {
+			// 컨트롤러가 emitter 를 반환하기 전이므로 send 는 버퍼에 쌓이기만 한다.
+			send(emitter, toResponse());
+			if (status.isDone()) {
+				emitter.complete();
+			} else {
+				listeners.add(emitter);
+			}
+		}
+
+		synchronized void removeListener(SseEmitter emitter) {
+			listeners.remove(emitter);
+		}
+
+		synchronized List<SseEmitter> drainListeners() {
+			List<SseEmitter> drained = new ArrayList<>(listeners);
+			listeners.clear();
+			return drained;
+		}
+
+		synchronized DailySummaryJobResponse toResponse() {
+			return new DailySummaryJobResponse(id, status, date.toString(), result, errorMessage);
+		}
+
+		synchronized DailySummaryJob toEntity() {
+			return new DailySummaryJob(id, userId, date, status, errorMessage, instanceId, createdAt);
+		}
+	}
+}
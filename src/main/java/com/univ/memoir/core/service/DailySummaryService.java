@@ -1,5 +1,6 @@
 package com.univ.memoir.core.service;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -8,10 +9,19 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -19,17 +29,25 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
 import com.univ.memoir.api.dto.req.time.VisitedPageForTimeDto;
-import com.univ.memoir.api.exception.codes.ErrorCode;
-import com.univ.memoir.api.exception.customException.UserNotFoundException;
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.customException.OpenAiUnavailableException;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.core.category.PageCategoryService;
 import com.univ.memoir.core.domain.DailySummary;
 import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.openai.LlmJsonExtractor;
+import com.univ.memoir.core.openai.OpenAiGateway;
+import com.univ.memoir.core.openai.OpenAiUseCase;
 import com.univ.memoir.core.repository.DailySummaryRepository;
+import com.univ.memoir.core.support.ContentHash;
+import com.univ.memoir.core.support.SingleFlight;
+import com.univ.memoir.core.support.StreamingJsonArrayParser;
+import com.univ.memoir.core.support.TopKCounter;
 
 
 @Service
@@ -37,114 +55,268 @@ public class DailySummaryService {
 
 	private static final Logger log = LoggerFactory.getLogger(DailySummaryService.class);
 
-	private final RestTemplate restTemplate;
+	private static final String SUMMARY_SYSTEM_PROMPT = "당신은 친절한 일일 활동 요약 전문가입니다.";
+	private static final Set<String> SUMMARY_ARRAY_FIELDS = Set.of("topKeywords", "dailyTimeline", "summaryText");
+	private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+	private static final int TOP_KEYWORD_COUNT = 3;
+
+	private static final String SUMMARY_INSTRUCTIONS = """
+			위 데이터를 참고해 다음을 작성해주세요.
+			1) 오늘의 키워드 상위 3개 (내림차순, { "keyword": "...", "frequency": 숫자 } JSON 배열 형식)
+			2) 시간대별 활동 타임라인 3줄 요약 (ex: "09:00 - 뉴스 읽기")
+			3) 3줄짜리 전체 활동 요약 문장 (한국어)
+
+			JSON 형식으로 아래 필드를 포함하여 응답하세요:
+			{
+			  "topKeywords": [ { "keyword": "...", "frequency": 숫자 }, ... ],
+			  "dailyTimeline": [ { "time": "HH:mm", "description": "..." }, ... ],
+			  "summaryText": [ "문장1", "문장2", "문장3" ]
+			}
+			""";
+
+	private final OpenAiGateway openAiGateway;
+	private final LlmJsonExtractor llmJsonExtractor;
+	private final PageCategoryService pageCategoryService;
 	private final ObjectMapper objectMapper;
 	private final DailySummaryRepository dailySummaryRepository;
 	private final UserService userService;
+	private final LocalKeywordExtractor localKeywordExtractor;
+	private final DegradedResultRecovery degradedResultRecovery;
+	private final Executor blockExecutor;
+	private final int hierarchicalMinPages;
+	private final int blockHours;
+	private final int blockCacheSize;
+	private final int maxParallelBlocks;
+
+	// 시간대별 요약 캐시 (블록 방문 기록 해시 → 요약) - 같은 날 다시 요약할 때 바뀐 블록만 다시 호출
+	private final Map<String, BlockSummary> blockCache;
+
+	// 같은 사용자/날짜/방문 기록으로 동시에 들어온 요청은 한 번만 요약
+	private final SingleFlight<String, DailySummaryResult> inFlightSummaries = new SingleFlight<>("daily-summary");
 
 	public DailySummaryService(
-			@Qualifier("openAiRestTemplate") RestTemplate restTemplate,
+			OpenAiGateway openAiGateway,
+			LlmJsonExtractor llmJsonExtractor,
+			PageCategoryService pageCategoryService,
 			ObjectMapper objectMapper,
-			DailySummaryRepository dailySummaryRepository, UserService userService
+			DailySummaryRepository dailySummaryRepository, UserService userService,
+			LocalKeywordExtractor localKeywordExtractor,
+			DegradedResultRecovery degradedResultRecovery,
+			@Qualifier("summaryBlockExecutor") Executor blockExecutor,
+			@Value("${daily-summary.hierarchical.min-pages:150}") int hierarchicalMinPages,
+			@Value("${daily-summary.hierarchical.block-hours:3}") int blockHours,
+			@Value("${daily-summary.hierarchical.block-cache-size:2000}") int blockCacheSize,
+			@Value("${daily-summary.hierarchical.max-parallel-blocks:3}") int maxParallelBlocks
 	) {
-		this.restTemplate = restTemplate;
+		this.openAiGateway = openAiGateway;
+		this.llmJsonExtractor = llmJsonExtractor;
+		this.pageCategoryService = pageCategoryService;
 		this.objectMapper = objectMapper;
 		this.dailySummaryRepository = dailySummaryRepository;
 		this.userService = userService;
+		this.localKeywordExtractor = localKeywordExtractor;
+		this.degradedResultRecovery = degradedResultRecovery;
+		this.blockExecutor = blockExecutor;
+		this.hierarchicalMinPages = hierarchicalMinPages;
+		this.blockHours = Math.max(1, Math.min(24, blockHours));
+		this.blockCacheSize = blockCacheSize;
+		this.maxParallelBlocks = Math.max(1, maxParallelBlocks);
+		this.blockCache = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, BlockSummary> eldest) {
+				return size() > DailySummaryService.this.blockCacheSize;
+			}
+		};
 	}
 
-	@Value("${openai.model}")
-	private String OPENAI_MODEL;
+	/**
+	 * 사용자의 일일 활동을 요약합니다.
+	 *
+	 * @param authUser 인증된 사용자
+	 * @param request 시간 분석 요청 DTO
+	 * @return 요약된 일일 활동 결과
+	 */
+	public DailySummaryResult summarizeDay(AuthUser authUser, TimeAnalysisRequest request) {
+		List<VisitedPageForTimeDto> pages = request.getVisitedPages();
+		if (pages == null || pages.isEmpty()) {
+			throw new IllegalArgumentException("방문 기록이 없습니다.");
+		}
+
+		String key = authUser.id() + ":" + request.getDate() + ":" + ContentHash.ofJson(objectMapper, pages);
+		return inFlightSummaries.execute(key, () -> summarize(authUser, request));
+	}
+
+	private DailySummaryResult summarize(AuthUser authUser, TimeAnalysisRequest request) {
+		User currentUser = userService.getReference(authUser);
+
+		List<VisitedPageForTimeDto> pages = request.getVisitedPages();
+
+		LocalDate localDate = LocalDate.parse(request.getDate());
 
-	@Value("${openai.api.base-url}")
-	private String OPENAI_BASE_URL;
+		// 1. 페이지 카테고리 분류 (캐시 미스만 GPT 호출)
+		PageCategoryService.Categorization categorization = pageCategoryService.categorize(pages);
+		List<CategorizedPage> categorizedPages = toCategorizedPages(pages, categorization.categories());
 
-	@Value("${openai.uri}")
-	private String OPENAI_URI;
+		// 2. 활동 통계 계산
+		DailyActivityStats stats = calculateStats(categorizedPages);
 
-	// --- ★ 카테고리 검증용 상수 추가 ★ ---
-	private static final List<String> VALID_CATEGORIES = List.of(
-			"공부, 학습", "뉴스, 정보 탐색", "콘텐츠 소비", "쇼핑", "업무, 프로젝트"
-	);
+		// 3. GPT를 통해 일일 요약 생성 (동기 호출, 방문이 많은 날은 시간대별 요약 후 병합)
+		//    서킷 브레이커가 열려 있으면 로컬 요약으로 대체
+		GptSummary gptSummary;
+		boolean degraded = categorization.degraded();
+		try {
+			gptSummary = fetchDailySummaryFromGPT(authUser, request.getDate(), categorizedPages);
+		} catch (OpenAiUnavailableException e) {
+			gptSummary = localSummary(categorizedPages, stats);
+			degraded = true;
+		}
 
-	private static final String DEFAULT_CATEGORY = "콘텐츠 소비";
+		// 4. 결과 객체 생성 및 DB 저장
+		DailySummaryResult result = buildResult(request.getDate(), gptSummary, toActivityStats(stats), degraded);
+		saveResult(currentUser, localDate, result);
+		updateRecovery(authUser, request, degraded);
+		return result;
+	}
 
 	/**
-	 * 사용자의 일일 활동을 요약합니다.
+	 * 일일 요약을 스트리밍으로 생성합니다.
+	 * 활동 통계는 카테고리 분류 직후, 요약의 각 키워드/타임라인/문장은 GPT 가 생성을 마치는 즉시 listener 로 전달합니다.
+	 * 완성된 결과는 동기 요약과 동일하게 저장합니다.
 	 *
-	 * @param accessToken 사용자 인증 토큰
+	 * @param authUser 인증된 사용자
 	 * @param request 시간 분석 요청 DTO
+	 * @param listener 스트리밍 이벤트 수신자
 	 * @return 요약된 일일 활동 결과
 	 */
-	public DailySummaryResult summarizeDay(String accessToken, TimeAnalysisRequest request) {
-		User currentUser = userService.findByAccessToken(accessToken);
-
-		if (currentUser == null) {
-			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
-		}
-
+	public DailySummaryResult streamSummary(AuthUser authUser, TimeAnalysisRequest request, SummaryStreamListener listener) {
 		List<VisitedPageForTimeDto> pages = request.getVisitedPages();
 		if (pages == null || pages.isEmpty()) {
 			throw new IllegalArgumentException("방문 기록이 없습니다.");
 		}
 
+		User currentUser = userService.getReference(authUser);
 		LocalDate localDate = LocalDate.parse(request.getDate());
 
-		// 1. GPT를 통해 페이지 카테고리 분류 (동기 호출)
-		List<CategorizedPage> categorizedPages = fetchCategoriesFromGPT(pages);
-
-		// 2. 활동 통계 계산
+		PageCategoryService.Categorization categorization = pageCategoryService.categorize(pages);
+		List<CategorizedPage> categorizedPages = toCategorizedPages(pages, categorization.categories());
 		DailyActivityStats stats = calculateStats(categorizedPages);
+		DailySummaryResult.ActivityStats activityStats = toActivityStats(stats);
+		listener.onActivityStats(activityStats);
+
+		StreamingJsonArrayParser parser = new StreamingJsonArrayParser(SUMMARY_ARRAY_FIELDS,
+				(field, json) -> emitElement(field, json, listener));
+
+		GptSummary gptSummary;
+		boolean degraded = categorization.degraded();
+		try {
+			String content = openAiGateway.stream(OpenAiUseCase.SUMMARY, SUMMARY_SYSTEM_PROMPT,
+					buildSummaryPrompt(authUser, request.getDate(), categorizedPages), 0.3, parser::feed);
+			gptSummary = parseSummary(content);
+		} catch (OpenAiUnavailableException e) {
+			// 서킷 브레이커 거절은 스트림 시작 전에만 발생하므로 로컬 요약을 같은 이벤트로 보낸다.
+			gptSummary = localSummary(categorizedPages, stats);
+			gptSummary.topKeywords.forEach(listener::onTopKeyword);
+			gptSummary.dailyTimeline.forEach(listener::onTimelineEntry);
+			gptSummary.summaryText.forEach(listener::onSummaryText);
+			degraded = true;
+		} catch (GlobalException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("GPT 일일 요약 스트리밍 실패", e);
+			throw new RuntimeException("GPT 일일 요약 스트리밍 실패: " + e.getMessage(), e);
+		}
+
+		DailySummaryResult result = buildResult(request.getDate(), gptSummary, activityStats, degraded);
+		saveResult(currentUser, localDate, result);
+		updateRecovery(authUser, request, degraded);
+		return result;
+	}
 
-		// 3. GPT를 통해 일일 요약 생성 (동기 호출)
-		GptSummary gptSummary = fetchDailySummaryFromGPT(request.getDate(), categorizedPages);
+	/**
+	 * 로컬 처리로 만든 결과는 GPT 서킷 브레이커가 닫힌 뒤 다시 요약하여 덮어쓴다.
+	 * 정상 결과를 저장했으면 대기 중인 재요약을 취소한다. (오래된 입력으로 다시 요약해 새 결과를 덮어쓰지 않도록)
+	 */
+	private void updateRecovery(AuthUser authUser, TimeAnalysisRequest request, boolean degraded) {
+		String key = "daily:" + authUser.id() + ":" + request.getDate();
+		if (degraded) {
+			degradedResultRecovery.register(key, () -> summarize(authUser, request));
+		} else {
+			degradedResultRecovery.cancel(key);
+		}
+	}
+
+	/**
+	 * 스트리밍 요약 이벤트 수신자
+	 */
+	public interface SummaryStreamListener {
+		void onActivityStats(DailySummaryResult.ActivityStats activityStats);
+
+		void onTopKeyword(DailySummaryResult.TopKeyword topKeyword);
+
+		void onTimelineEntry(DailySummaryResult.DailyTimelineEntry entry);
+
+		void onSummaryText(String sentence);
+	}
 
-		// 4. 결과 객체 생성
-		DailySummaryResult result = new DailySummaryResult(
-				request.getDate(),
+	private void emitElement(String field, String json, SummaryStreamListener listener) {
+		try {
+			switch (field) {
+				case "topKeywords" -> listener.onTopKeyword(
+						sanitize(objectMapper.readValue(json, DailySummaryResult.TopKeyword.class)));
+				case "dailyTimeline" -> listener.onTimelineEntry(
+						sanitize(objectMapper.readValue(json, DailySummaryResult.DailyTimelineEntry.class)));
+				case "summaryText" -> listener.onSummaryText(objectMapper.readValue(json, String.class));
+				default -> {
+				}
+			}
+		} catch (JsonProcessingException e) {
+			// 최종 결과는 전체 content 로 다시 파싱하므로 개별 원소 실패는 건너뛴다.
+			log.warn("스트리밍 요약 원소 파싱 실패 - field: {}, element: {}", field, json);
+		}
+	}
+
+	private DailySummaryResult.ActivityStats toActivityStats(DailyActivityStats stats) {
+		return new DailySummaryResult.ActivityStats(stats.totalUsageMinutes, stats.getCategoryPercentages());
+	}
+
+	private DailySummaryResult buildResult(String date, GptSummary gptSummary,
+										   DailySummaryResult.ActivityStats activityStats, boolean degraded) {
+		return new DailySummaryResult(
+				date,
 				gptSummary.topKeywords,
 				gptSummary.dailyTimeline,
 				gptSummary.summaryText,
-				new DailySummaryResult.ActivityStats(
-						stats.totalUsageMinutes,
-						stats.getCategoryPercentages()
-				)
+				activityStats,
+				degraded
 		);
+	}
 
-		// 5. DB 저장 (User 정보 포함)
+	private void saveResult(User currentUser, LocalDate localDate, DailySummaryResult result) {
 		try {
-			dailySummaryRepository.save(new DailySummary(
-					currentUser,  // ← User 추가
-					localDate,
-					objectMapper.writeValueAsString(result.topKeywords()),
-					objectMapper.writeValueAsString(result.dailyTimeline()),
-					objectMapper.writeValueAsString(result.summaryText()),
-					result.activityStats().totalUsageTimeMinutes(),
-					objectMapper.writeValueAsString(result.activityStats().activityProportions())
-			));
+			String topKeywordsJson = objectMapper.writeValueAsString(result.topKeywords());
+			String timelineJson = objectMapper.writeValueAsString(result.dailyTimeline());
+			String summaryTextJson = objectMapper.writeValueAsString(result.summaryText());
+			String activityProportionsJson = objectMapper.writeValueAsString(result.activityStats().activityProportions());
+			int totalUsageMinutes = result.activityStats().totalUsageTimeMinutes();
+
+			// 같은 날짜를 다시 요약한 경우 (degraded 결과 재계산 등) 기존 행을 교체
+			dailySummaryRepository.upsert(currentUser.getId(), localDate, topKeywordsJson, timelineJson,
+					summaryTextJson, totalUsageMinutes, activityProportionsJson);
 		} catch (JsonProcessingException e) {
 			log.error("DB 저장용 JSON 직렬화 실패", e);
 			throw new RuntimeException("DB 저장용 JSON 직렬화 실패", e);
 		}
-
-		return result;
 	}
 
 	/**
 	 * 특정 날짜의 일일 요약을 조회합니다.
 	 *
-	 * @param accessToken 사용자 인증 토큰
+	 * @param authUser 인증된 사용자
 	 * @param date 조회할 날짜
 	 * @return 일일 요약 결과
 	 */
-	public DailySummaryResult getDaily(String accessToken, LocalDate date) {
-		User user = userService.findByAccessToken(accessToken);
-
-		if (user == null) {
-			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
-		}
-
-		Optional<DailySummary> optionalData = dailySummaryRepository.findByUserAndDate(user, date);
+	public DailySummaryResult getDaily(AuthUser authUser, LocalDate date) {
+		Optional<DailySummary> optionalData = dailySummaryRepository.findByUserIdAndDate(authUser.id(), date);
 
 		if (optionalData.isEmpty()) {
 			// 데이터 없을 경우, 빈 객체 반환
@@ -153,7 +325,8 @@ public class DailySummaryService {
 					Collections.emptyList(),
 					Collections.emptyList(),
 					Collections.emptyList(),
-					new DailySummaryResult.ActivityStats(0, Collections.emptyList())
+					new DailySummaryResult.ActivityStats(0, Collections.emptyList()),
+					false
 			);
 		}
 
@@ -196,7 +369,8 @@ public class DailySummaryService {
 					new DailySummaryResult.ActivityStats(
 							data.getTotalUsageMinutes(),
 							activityProportions
-					)
+					),
+					false
 			);
 		} catch (JsonProcessingException e) {
 			log.error("일일 요약 데이터 역직렬화 실패", e);
@@ -205,84 +379,14 @@ public class DailySummaryService {
 	}
 
 	/**
-	 * GPT를 통해 방문 페이지의 카테고리를 분류합니다.
+	 * 분류 결과를 방문 페이지와 짝지어 둡니다.
 	 */
-	private List<CategorizedPage> fetchCategoriesFromGPT(List<VisitedPageForTimeDto> pages) {
-		String prompt;
-		try {
-			String pagesJson = objectMapper.writeValueAsString(pages);
-			prompt = """
-                   아래는 사용자의 방문 기록입니다. 각 페이지의 제목과 URL을 참고하여 해당 페이지의 카테고리를 분류하세요.
-                   카테고리는 다음 중 하나로만 정하세요:
-                   '공부, 학습', '뉴스, 정보 탐색', '콘텐츠 소비', '쇼핑', '업무, 프로젝트'
-
-                   다음 형식으로만 응답하세요 (JSON strict array):
-                   [
-                     { "title": "...", "url": "...", "category": "..." },
-                     ...
-                   ]
-
-                   방문 기록:
-                   %s
-                   """.formatted(pagesJson);
-		} catch (JsonProcessingException e) {
-			log.error("페이지 목록 JSON 직렬화 실패", e);
-			throw new RuntimeException("페이지 목록 JSON 직렬화 실패", e);
-		}
-
-		Map<String, Object> requestBody = Map.of(
-				"model", OPENAI_MODEL,
-				"messages", List.of(
-						Map.of("role", "system", "content", "당신은 인터넷 기록 분류 전문가입니다."),
-						Map.of("role", "user", "content", prompt)
-				),
-				"temperature", 0.2
-		);
-
-		try {
-			Map<String, Object> response = restTemplate.postForObject(
-					OPENAI_BASE_URL + OPENAI_URI,
-					requestBody,
-					Map.class
-			);
-
-			List<?> choices = (List<?>) response.get("choices");
-			if (choices == null || choices.isEmpty()) {
-				throw new RuntimeException("GPT 응답에 'choices' 필드가 없습니다.");
-			}
-
-			Map<String, Object> message = (Map<String, Object>) ((Map<?, ?>) choices.get(0)).get("message");
-			String content = Objects.toString(message.get("content"), "").trim();
-
-			List<Map<String, String>> parsedList = objectMapper.readValue(content, List.class);
-
-			// GPT 응답 개수 조정
-			if (parsedList.size() < pages.size()) {
-				int diff = pages.size() - parsedList.size();
-				for (int i = 0; i < diff; i++) {
-					parsedList.add(Map.of("title", "", "url", "", "category", DEFAULT_CATEGORY));
-				}
-			} else if (parsedList.size() > pages.size()) {
-				parsedList = parsedList.subList(0, pages.size());
-			}
-
-			List<CategorizedPage> result = new ArrayList<>();
-			for (int i = 0; i < pages.size(); i++) {
-				String category = parsedList.get(i).getOrDefault("category", DEFAULT_CATEGORY);
-
-				// ★ 유효하지 않은 카테고리 기본값으로 대체 ★
-				if (!VALID_CATEGORIES.contains(category)) {
-					log.warn("잘못된 카테고리 '{}' → 기본값 '{}'으로 대체", category, DEFAULT_CATEGORY);
-					category = DEFAULT_CATEGORY;
-				}
-
-				result.add(new CategorizedPage(pages.get(i), category));
-			}
-			return result;
-		} catch (Exception e) {
-			log.error("GPT 카테고리 분류 응답 파싱 실패", e);
-			throw new RuntimeException("GPT 카테고리 분류 응답 파싱 실패: " + e.getMessage(), e);
+	private List<CategorizedPage> toCategorizedPages(List<VisitedPageForTimeDto> pages, List<String> categories) {
+		List<CategorizedPage> result = new ArrayList<>(pages.size());
+		for (int i = 0; i < pages.size(); i++) {
+			result.add(new CategorizedPage(pages.get(i), categories.get(i)));
 		}
+		return result;
 	}
 
 	/**
@@ -304,104 +408,267 @@ public class DailySummaryService {
 	/**
 	 * GPT를 통해 일일 활동 요약을 생성합니다.
 	 */
-	private GptSummary fetchDailySummaryFromGPT(String date, List<CategorizedPage> pages) {
-		StringBuilder visitSummary = new StringBuilder();
-		for (CategorizedPage cp : pages) {
-			ZonedDateTime visitTime = Instant.ofEpochMilli(cp.page.getStartTimestamp())
-				.atZone(ZoneId.of("Asia/Seoul"));
-			String timeStr = visitTime.toLocalTime().withSecond(0).withNano(0).toString(); // HH:mm
+	private GptSummary fetchDailySummaryFromGPT(AuthUser authUser, String date, List<CategorizedPage> pages) {
+		try {
+			String content = openAiGateway.complete(
+					OpenAiUseCase.SUMMARY, SUMMARY_SYSTEM_PROMPT, buildSummaryPrompt(authUser, date, pages), 0.3);
+			return parseSummary(content);
+		} catch (GlobalException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("GPT 일일 요약 응답 파싱 실패. 원본 content: {}", e.getMessage(), e);
+			throw new RuntimeException("GPT 일일 요약 응답 파싱 실패: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 최종 요약 프롬프트 - 방문이 hierarchicalMinPages 건 이상이면 시간대별 요약을 모은 프롬프트, 아니면 방문 기록 전체
+	 */
+	private String buildSummaryPrompt(AuthUser authUser, String date, List<CategorizedPage> pages) {
+		if (pages.size() < hierarchicalMinPages) {
+			StringBuilder visitSummary = new StringBuilder();
+			pages.forEach(cp -> appendVisitLine(visitSummary, cp));
+			return """
+					당신은 디지털 활동 요약 전문가입니다.
+					사용자가 %s 하루 동안 다음과 같은 인터넷 방문 기록과 카테고리 정보를 보냈습니다:
+
+					%s
 
-			visitSummary.append(String.format("- 시각: %s, 제목: %s, 카테고리: %s%n", timeStr, cp.page.getTitle(), cp.category));
+					""".formatted(date, visitSummary) + SUMMARY_INSTRUCTIONS;
 		}
 
-		String prompt = """
-           당신은 디지털 활동 요약 전문가입니다.
-           사용자가 %s 하루 동안 다음과 같은 인터넷 방문 기록과 카테고리 정보를 보냈습니다:
-
-           %s
-
-           위 데이터를 참고해 다음을 작성해주세요.
-           1) 오늘의 키워드 상위 3개 (내림차순, { "keyword": "...", "frequency": 숫자 } JSON 배열 형식)
-           2) 시간대별 활동 타임라인 3줄 요약 (ex: "09:00 - 뉴스 읽기")
-           3) 3줄짜리 전체 활동 요약 문장 (한국어)
-
-           JSON 형식으로 아래 필드를 포함하여 응답하세요:
-           {
-             "topKeywords": [ { "keyword": "...", "frequency": 숫자 }, ... ],
-             "dailyTimeline": [ { "time": "HH:mm", "description": "..." }, ... ],
-             "summaryText": [ "문장1", "문장2", "문장3" ]
-           }
-           """.formatted(date, visitSummary);
-
-		Map<String, Object> requestBody = Map.of(
-				"model", OPENAI_MODEL,
-				"messages", List.of(
-						Map.of("role", "system", "content", "당신은 친절한 일일 활동 요약 전문가입니다."),
-						Map.of("role", "user", "content", prompt)
-				),
-				"temperature", 0.3
-		);
+		Map<Integer, List<CategorizedPage>> blocks = new TreeMap<>();
+		for (CategorizedPage cp : pages) {
+			blocks.computeIfAbsent(visitTime(cp).getHour() / blockHours, k -> new ArrayList<>()).add(cp);
+		}
+
+		Map<Integer, BlockSummary> summaries = summarizeBlocks(authUser, date, blocks);
+		StringBuilder blockSummaries = new StringBuilder();
+		blocks.forEach((block, blockPages) ->
+				appendBlockSummary(blockSummaries, block, blockPages.size(), summaries.get(block)));
+		log.debug("시간대별 요약 병합 - 방문 {}건, 블록 {}개", pages.size(), blocks.size());
+
+		return """
+				당신은 디지털 활동 요약 전문가입니다.
+				사용자가 %s 하루 동안 방문한 인터넷 기록을 %d시간 단위로 먼저 요약한 결과입니다:
+
+				%s
+				""".formatted(date, blockHours, blockSummaries) + SUMMARY_INSTRUCTIONS;
+	}
+
+	/**
+	 * 시간대별 요약 (map 단계) - 요청 하나가 동시에 호출하는 블록은 maxParallelBlocks 개까지
+	 * 블록 수만큼 작업을 만들지 않고 maxParallelBlocks 개의 작업이 남은 블록을 하나씩 가져간다.
+	 * 한 블록이 실패하면 아직 시작하지 않은 블록은 호출하지 않고, 나머지 작업을 취소한 뒤 바로 그 예외를 던진다.
+	 * (이미 보낸 GPT 요청은 끝까지 진행되지만 결과는 버린다.)
+	 */
+	private Map<Integer, BlockSummary> summarizeBlocks(AuthUser authUser, String date,
+			Map<Integer, List<CategorizedPage>> blocks) {
+		Queue<Integer> pending = new ConcurrentLinkedQueue<>(blocks.keySet());
+		Map<Integer, BlockSummary> summaries = new ConcurrentHashMap<>();
+		CompletableFuture<Void> failure = new CompletableFuture<>();
+
+		List<CompletableFuture<Void>> workers = new ArrayList<>();
+		for (int i = 0; i < Math.min(maxParallelBlocks, blocks.size()); i++) {
+			workers.add(CompletableFuture.runAsync(() -> {
+				Integer block;
+				while (!failure.isDone() && (block = pending.poll()) != null) {
+					try {
+						summaries.put(block, summarizeBlock(authUser, date, block, blocks.get(block)));
+					} catch (RuntimeException e) {
+						pending.clear();
+						failure.completeExceptionally(e);
+						throw e;
+					}
+				}
+			}, blockExecutor));
+		}
 
 		try {
-			Map<String, Object> response = restTemplate.postForObject(
-					OPENAI_BASE_URL + OPENAI_URI,
-					requestBody,
-					Map.class
-			);
+			CompletableFuture.anyOf(failure, CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)))
+					.join();
+		} catch (CompletionException e) {
+			workers.forEach(worker -> worker.cancel(true));
+			throw e.getCause() instanceof RuntimeException re ? re : e;
+		}
+		return summaries;
+	}
 
-			List<?> choices = (List<?>) response.get("choices");
-			if (choices == null || choices.isEmpty()) {
-				throw new RuntimeException("GPT 응답에 'choices' 필드가 없습니다.");
+	/**
+	 * 한 시간대의 방문 기록 요약 - 같은 방문 기록이면 캐시 사용
+	 */
+	private BlockSummary summarizeBlock(AuthUser authUser, String date, int block, List<CategorizedPage> pages) {
+		StringBuilder visits = new StringBuilder();
+		pages.forEach(cp -> appendVisitLine(visits, cp));
+
+		String cacheKey = ContentHash.sha256(authUser.id() + ":" + date + ":" + block + ":" + visits);
+		synchronized (blockCache) {
+			BlockSummary cached = blockCache.get(cacheKey);
+			if (cached != null) {
+				return cached;
 			}
+		}
 
-			Map<String, Object> message = (Map<String, Object>) ((Map<?, ?>) choices.get(0)).get("message");
-			String content = Objects.toString(message.get("content"), "").trim();
+		String prompt = """
+				사용자가 %s %s 사이에 방문한 인터넷 기록과 카테고리입니다:
 
-			log.debug("GPT raw content: {}", content);
+				%s
 
-			// ```json ... ``` 제거
-			if (content.startsWith("```")) {
-				int start = content.indexOf("\n") + 1;
-				int end = content.lastIndexOf("```");
-				if (start > 0 && end > start) {
-					content = content.substring(start, end).trim();
+				이 시간대의 활동을 요약해 JSON 으로만 응답하세요:
+				{
+				  "keywords": [ { "keyword": "...", "frequency": 숫자 } ],
+				  "timeline": [ { "time": "HH:mm", "description": "..." } ],
+				  "summary": "한두 문장 요약"
 				}
-			}
+				keywords 는 최대 5개, timeline 은 최대 3개로 작성하세요.
+				""".formatted(date, blockRange(block), visits);
 
-			// 설명문 제거: { 로 시작하지 않으면 첫 {부터 자르기
-			if (!content.startsWith("{")) {
-				int idx = content.indexOf("{");
-				if (idx != -1) {
-					content = content.substring(idx).trim();
-				}
-			}
+		BlockSummary summary;
+		try {
+			String content = openAiGateway.complete(OpenAiUseCase.SUMMARY_BLOCK, SUMMARY_SYSTEM_PROMPT, prompt, 0.3);
+			summary = llmJsonExtractor.readObject(content, BlockSummary.class);
+		} catch (IOException e) {
+			throw new RuntimeException("GPT 시간대별 요약 응답 파싱 실패: " + e.getMessage(), e);
+		}
 
-			Map<String, Object> parsed = objectMapper.readValue(content, Map.class);
+		synchronized (blockCache) {
+			blockCache.put(cacheKey, summary);
+		}
+		return summary;
+	}
 
-			List<DailySummaryResult.TopKeyword> keywords = ((List<Map<String, Object>>) parsed.getOrDefault("topKeywords", Collections.emptyList()))
-					.stream()
-					.map(k -> new DailySummaryResult.TopKeyword(
-							Objects.toString(k.get("keyword"), ""),
-							((Number) k.getOrDefault("frequency", 0)).intValue()))
-					.collect(Collectors.toList());
+	private void appendBlockSummary(StringBuilder sb, int block, int visitCount, BlockSummary summary) {
+		sb.append(String.format("[%s] 방문 %d건%n", blockRange(block), visitCount));
+		sb.append("- 요약: ").append(Objects.toString(summary.summary(), "")).append('\n');
+		sb.append("- 키워드: ").append(nullToEmpty(summary.keywords()).stream()
+				.filter(Objects::nonNull)
+				.map(k -> k.keyword() + "(" + k.frequency() + ")")
+				.collect(Collectors.joining(", "))).append('\n');
+		sb.append("- 활동: ").append(nullToEmpty(summary.timeline()).stream()
+				.filter(Objects::nonNull)
+				.map(t -> t.time() + " " + t.description())
+				.collect(Collectors.joining("; "))).append("\n\n");
+	}
 
-			List<DailySummaryResult.DailyTimelineEntry> timeline = ((List<Map<String, Object>>) parsed.getOrDefault("dailyTimeline", Collections.emptyList()))
-					.stream()
-					.map(t -> new DailySummaryResult.DailyTimelineEntry(
-							Objects.toString(t.get("time"), ""),
-							Objects.toString(t.get("description"), "")))
-					.sorted(Comparator.comparing(DailySummaryResult.DailyTimelineEntry::time)) // 시간 순 정렬
-					.collect(Collectors.toList());
+	private String blockRange(int block) {
+		return String.format("%02d:00~%02d:00", block * blockHours, Math.min(24, (block + 1) * blockHours));
+	}
 
-			List<String> summaryText = (List<String>) parsed.getOrDefault("summaryText", Collections.emptyList());
+	private void appendVisitLine(StringBuilder sb, CategorizedPage cp) {
+		String timeStr = visitTime(cp).toLocalTime().withSecond(0).withNano(0).toString(); // HH:mm
+		sb.append(String.format("- 시각: %s, 제목: %s, 카테고리: %s%n", timeStr, cp.page.getTitle(), cp.category));
+	}
 
-			return new GptSummary(keywords, timeline, summaryText);
-		} catch (Exception e) {
-			log.error("GPT 일일 요약 응답 파싱 실패. 원본 content: {}", e.getMessage(), e);
-			throw new RuntimeException("GPT 일일 요약 응답 파싱 실패: " + e.getMessage(), e);
+	private static ZonedDateTime visitTime(CategorizedPage cp) {
+		return Instant.ofEpochMilli(cp.page.getStartTimestamp()).atZone(KST_ZONE);
+	}
+
+	/**
+	 * GPT 없이 만드는 요약 - 제목 단어 빈도 키워드, 시간대별 최다 카테고리 타임라인, 통계 기반 문장
+	 */
+	private GptSummary localSummary(List<CategorizedPage> pages, DailyActivityStats stats) {
+		List<DailySummaryResult.TopKeyword> keywords = localKeywordExtractor
+				.extract(pages, cp -> cp.page.getTitle(), cp -> cp.page.getVisitCount(), TOP_KEYWORD_COUNT).stream()
+				.map(k -> new DailySummaryResult.TopKeyword(k.getKeyword(), k.getFrequency()))
+				.collect(Collectors.toList());
+
+		Map<Integer, Map<String, Integer>> blockSeconds = new TreeMap<>();
+		for (CategorizedPage cp : pages) {
+			blockSeconds.computeIfAbsent(visitTime(cp).getHour() / blockHours, k -> new HashMap<>())
+					.merge(cp.category, cp.page.getDurationSeconds(), Integer::sum);
+		}
+		List<DailySummaryResult.DailyTimelineEntry> timeline = blockSeconds.entrySet().stream()
+				.sorted(Comparator.comparing(
+						(Map.Entry<Integer, Map<String, Integer>> e) -> totalOf(e.getValue())).reversed())
+				.limit(3)
+				.sorted(Map.Entry.comparingByKey())
+				.map(e -> new DailySummaryResult.DailyTimelineEntry(
+						String.format("%02d:00", e.getKey() * blockHours),
+						topCategory(e.getValue()) + " 위주 활동 (" + totalOf(e.getValue()) / 60 + "분)"))
+				.collect(Collectors.toList());
+
+		List<String> summaryText = new ArrayList<>();
+		summaryText.add("오늘 총 " + stats.totalUsageMinutes + "분 동안 인터넷을 사용했습니다.");
+		if (!stats.categorySeconds.isEmpty()) {
+			String top = topCategory(stats.categorySeconds);
+			summaryText.add("가장 많은 시간을 보낸 활동은 '" + top + "'(" + stats.categorySeconds.get(top) / 60 + "분)입니다.");
+		}
+		if (!keywords.isEmpty()) {
+			summaryText.add("주요 키워드는 " + keywords.stream()
+					.map(DailySummaryResult.TopKeyword::keyword)
+					.collect(Collectors.joining(", ")) + " 입니다.");
+		}
+		return new GptSummary(keywords, timeline, summaryText);
+	}
+
+	private static int totalOf(Map<String, Integer> seconds) {
+		return seconds.values().stream().mapToInt(Integer::intValue).sum();
+	}
+
+	private static String topCategory(Map<String, Integer> seconds) {
+		return Collections.max(seconds.entrySet(), Map.Entry.comparingByValue()).getKey();
+	}
+
+	private GptSummary parseSummary(String content) throws IOException {
+		log.debug("GPT raw content: {}", content);
+
+		GptSummaryResponse parsed = llmJsonExtractor.readObject(content, GptSummaryResponse.class);
+
+		// 같은 키워드가 여러 번 오면 합쳐서 빈도순 상위 3개
+		TopKCounter keywordCounter = new TopKCounter();
+		for (DailySummaryResult.TopKeyword keyword : nullToEmpty(parsed.topKeywords())) {
+			if (keyword != null && keyword.keyword() != null && !keyword.keyword().isBlank()) {
+				keywordCounter.add(keyword.keyword().strip(), keyword.frequency());
+			}
 		}
+		List<DailySummaryResult.TopKeyword> keywords = keywordCounter.top(TOP_KEYWORD_COUNT,
+				DailySummaryResult.TopKeyword::new);
+
+		List<DailySummaryResult.DailyTimelineEntry> timeline = nullToEmpty(parsed.dailyTimeline()).stream()
+				.filter(Objects::nonNull)
+				.map(this::sanitize)
+				.sorted(Comparator.comparing(DailySummaryResult.DailyTimelineEntry::time)) // 시간 순 정렬
+				.collect(Collectors.toList());
+
+		List<String> summaryText = nullToEmpty(parsed.summaryText()).stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+
+		return new GptSummary(keywords, timeline, summaryText);
+	}
+
+	private DailySummaryResult.TopKeyword sanitize(DailySummaryResult.TopKeyword k) {
+		return new DailySummaryResult.TopKeyword(Objects.toString(k.keyword(), ""), k.frequency());
 	}
 
+	private DailySummaryResult.DailyTimelineEntry sanitize(DailySummaryResult.DailyTimelineEntry t) {
+		return new DailySummaryResult.DailyTimelineEntry(
+				Objects.toString(t.time(), ""),
+				Objects.toString(t.description(), ""));
+	}
+
+	private static <T> List<T> nullToEmpty(List<T> list) {
+		return list == null ? Collections.emptyList() : list;
+	}
+
+	/**
+	 * GPT 일일 요약 응답 본문
+	 */
+	private record GptSummaryResponse(
+			List<DailySummaryResult.TopKeyword> topKeywords,
+			List<DailySummaryResult.DailyTimelineEntry> dailyTimeline,
+			List<String> summaryText
+	) {}
+
+	/**
+	 * GPT 시간대별 요약 응답 본문
+	 */
+	private record BlockSummary(
+			List<DailySummaryResult.TopKeyword> keywords,
+			List<DailySummaryResult.DailyTimelineEntry> timeline,
+			String summary
+	) {}
+
 	// 내부 클래스들
 	private static class CategorizedPage {
 		VisitedPageForTimeDto page;
@@ -453,7 +720,8 @@ public class DailySummaryService {
 			List<TopKeyword> topKeywords,
 			List<DailyTimelineEntry> dailyTimeline,
 			List<String> summaryText,
-			ActivityStats activityStats
+			ActivityStats activityStats,
+			boolean degraded
 	) {
 		public record TopKeyword(String keyword, int frequency) {}
 		public record DailyTimelineEntry(String time, String description) {}
@@ -0,0 +1,102 @@
+package com.univ.memoir.core.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.univ.memoir.api.dto.req.time.TimeAnalysisRequest;
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.customException.SummaryJobQueueFullException;
+import com.univ.memoir.config.jwt.AuthUser;
+
+/**
+ * 일일 요약 SSE 스트리밍
+ * 요약은 전용 dailySummaryStreamExecutor 에서 실행하고 (남는 스레드가 없으면 503), 생성되는 요소를 아래 이벤트로 바로 전송한다.
+ * activityStats → topKeyword / timeline / summaryText (생성 순서대로) → result (저장된 최종 결과) 또는 error
+ */
+@Service
+public class DailySummaryStreamService {
+
+	private static final Logger log = LoggerFactory.getLogger(DailySummaryStreamService.class);
+
+	private final DailySummaryService dailySummaryService;
+	private final Executor streamExecutor;
+
+	@Value("${daily-summary.stream.timeout:PT2M}")
+	private Duration timeout;
+
+	public DailySummaryStreamService(
+			DailySummaryService dailySummaryService,
+			@Qualifier("dailySummaryStreamExecutor") Executor streamExecutor
+	) {
+		this.dailySummaryService = dailySummaryService;
+		this.streamExecutor = streamExecutor;
+	}
+
+	public SseEmitter stream(AuthUser authUser, TimeAnalysisRequest request) {
+		if (request.getVisitedPages() == null || request.getVisitedPages().isEmpty()) {
+			throw new IllegalArgumentException("방문 기록이 없습니다.");
+		}
+
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		try {
+			streamExecutor.execute(() -> run(emitter, authUser, request));
+		} catch (RejectedExecutionException e) {
+			throw new SummaryJobQueueFullException(ErrorCode.SUMMARY_STREAM_BUSY);
+		}
+		return emitter;
+	}
+
+	private void run(SseEmitter emitter, AuthUser authUser, TimeAnalysisRequest request) {
+		try {
+			DailySummaryService.DailySummaryResult result = dailySummaryService.streamSummary(authUser, request,
+					new DailySummaryService.SummaryStreamListener() {
+						@Override
+						public void onActivityStats(DailySummaryService.DailySummaryResult.ActivityStats activityStats) {
+							send(emitter, "activityStats", activityStats);
+						}
+
+						@Override
+						public void onTopKeyword(DailySummaryService.DailySummaryResult.TopKeyword topKeyword) {
+							send(emitter, "topKeyword", topKeyword);
+						}
+
+						@Override
+						public void onTimelineEntry(DailySummaryService.DailySummaryResult.DailyTimelineEntry entry) {
+							send(emitter, "timeline", entry);
+						}
+
+						@Override
+						public void onSummaryText(String sentence) {
+							send(emitter, "summaryText", sentence);
+						}
+					});
+			send(emitter, "result", result);
+		} catch (GlobalException e) {
+			send(emitter, "error", e.getErrorCode().getMessage());
+		} catch (Exception e) {
+			log.error("일일 요약 스트리밍 실패", e);
+			send(emitter, "error", "일일 요약 생성에 실패했습니다.");
+		} finally {
+			emitter.complete();
+		}
+	}
+
+	private void send(SseEmitter emitter, String event, Object data) {
+		try {
+			emitter.send(SseEmitter.event().name(event).data(data));
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트가 연결을 끊어도 요약은 끝까지 생성하여 저장한다.
+			log.debug("SSE 전송 실패 (연결 종료) - event: {}", event);
+		}
+	}
+}
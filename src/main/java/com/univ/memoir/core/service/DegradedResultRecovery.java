@@ -0,0 +1,119 @@
+package com.univ.memoir.core.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.core.openai.GptCircuitClosedEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬 처리(degraded)로 저장한 결과를 GPT 서킷 브레이커가 닫힌 뒤 다시 계산
+ * - 같은 key(사용자/날짜/API)는 마지막 요청만 남기고, max-pending 을 넘으면 오래된 것부터 버린다.
+ * - 재계산은 gptRecoveryExecutor 에서 하나씩 실행하며, 그 사이 다시 열리면 작업이 스스로 다시 등록된다.
+ * - 같은 key 로 정상(non-degraded) 결과를 저장하면 cancel 을 호출해야 한다. 대기 중이거나 실행 대기열에 넘어간 작업을 버려,
+ *   오래된 입력으로 다시 계산한 결과가 새 결과를 덮어쓰지 않게 한다.
+ */
+@Slf4j
+@Component
+public class DegradedResultRecovery {
+
+    private final Executor recoveryExecutor;
+    private final int maxPending;
+    private final Map<String, Runnable> pending = new LinkedHashMap<>();
+    // 실행기로 넘겼지만 아직 시작하지 않은 작업 - key → 넘길 때 만든 토큰 (this 로 동기화)
+    private final Map<String, Object> dispatched = new HashMap<>();
+
+    public DegradedResultRecovery(@Qualifier("gptRecoveryExecutor") Executor recoveryExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${openai.recovery.max-pending:1000}") int maxPending) {
+        this.recoveryExecutor = recoveryExecutor;
+        this.maxPending = maxPending;
+        Gauge.builder("openai.recovery.pending", this, DegradedResultRecovery::pendingCount)
+                .register(meterRegistry);
+    }
+
+    public synchronized void register(String key, Runnable task) {
+        pending.remove(key);
+        dispatched.remove(key);
+        pending.put(key, task);
+        Iterator<String> oldest = pending.keySet().iterator();
+        while (pending.size() > maxPending && oldest.hasNext()) {
+            log.warn("재계산 대기 작업 초과 - 가장 오래된 작업 제외: {}", oldest.next());
+            oldest.remove();
+        }
+    }
+
+    /**
+     * key 의 재계산 취소 - 새 결과가 저장된 뒤 호출
+     */
+    public synchronized void cancel(String key) {
+        pending.remove(key);
+        dispatched.remove(key);
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    @EventListener(GptCircuitClosedEvent.class)
+    public void onCircuitClosed() {
+        List<Map.Entry<String, Runnable>> tasks;
+        synchronized (this) {
+            tasks = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        log.info("GPT 서킷 브레이커 복구 - degraded 결과 {}건 재계산", tasks.size());
+        for (Map.Entry<String, Runnable> task : tasks) {
+            String key = task.getKey();
+            Object token = new Object();
+            synchronized (this) {
+                if (pending.containsKey(key)) {
+                    // 꺼낸 뒤 다시 등록된 key - 새 작업이 다음 복구를 기다린다.
+                    continue;
+                }
+                dispatched.put(key, token);
+            }
+            try {
+                recoveryExecutor.execute(() -> run(key, token, task.getValue()));
+            } catch (RejectedExecutionException e) {
+                synchronized (this) {
+                    if (dispatched.remove(key, token)) {
+                        register(key, task.getValue());
+                    }
+                }
+            }
+        }
+    }
+
+    private void run(String key, Object token, Runnable task) {
+        synchronized (this) {
+            if (!dispatched.remove(key, token)) {
+                log.debug("취소된 degraded 결과 재계산 건너뜀 - {}", key);
+                return;
+            }
+        }
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.warn("degraded 결과 재계산 실패 - {}: {}", key, e.getMessage());
+        }
+    }
+}
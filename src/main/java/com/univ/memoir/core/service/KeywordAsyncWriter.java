@@ -0,0 +1,34 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 키워드 분석 후속 작업을 keywordTaskExecutor 에서 실행
+ * KeywordService 와 다른 빈이어야 @Async 프록시가 적용되어 요청 스레드를 잡지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordAsyncWriter {
+
+    private final KeywordStore keywordStore;
+
+    /**
+     * 분석 결과 DB 저장 - 실패는 반환된 future 로 전달
+     */
+    @Async("keywordTaskExecutor")
+    public CompletableFuture<Void> save(Long userId, LocalDate date, KeywordResponseDto result) {
+        keywordStore.save(userId, date, result);
+        log.debug("Async save completed - userId: {}", userId);
+        return CompletableFuture.completedFuture(null);
+    }
+}
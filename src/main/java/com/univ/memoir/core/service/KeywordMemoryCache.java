@@ -0,0 +1,111 @@
+package com.univ.memoir.core.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * 키워드 분석 결과 / 상위 키워드 메모리 캐시 (사용자 × 날짜)
+ * - 항목 수가 아니라 추정 크기(바이트)의 합으로 제한하고, 넘치면 Caffeine 의 W-TinyLFU 정책으로 덜 쓰이는 항목부터 뺀다.
+ * - 쓰기 후 ttl 이 지나면 만료되므로 별도 정리 작업이 필요 없다.
+ * - 적중률/제거 수는 cache.* 지표(cache=keywordMemoryCache)로 노출한다.
+ * 사용자의 키워드가 바뀌면 invalidateUser / invalidateTopKeywords 를 호출해야 한다.
+ */
+@Component
+public class KeywordMemoryCache {
+
+    // 키 + 리스트 + Caffeine 노드 오버헤드, 키워드 하나당 DTO + String 헤더 (추정값)
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+    private static final int KEYWORD_OVERHEAD_BYTES = 64;
+
+    private final Cache<Key, List<KeywordFrequencyDto>> cache;
+
+    public KeywordMemoryCache(MeterRegistry meterRegistry,
+                              @Value("${keyword.memory-cache.max-weight-bytes:16777216}") long maxWeightBytes,
+                              @Value("${keyword.memory-cache.ttl:PT6H}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, List<KeywordFrequencyDto> keywords) -> estimateBytes(keywords))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "keywordMemoryCache");
+    }
+
+    public Optional<KeywordResponseDto> getResponse(Long userId, LocalDate date) {
+        List<KeywordFrequencyDto> keywords = cache.getIfPresent(new Key(userId, date, Kind.RESPONSE));
+        if (keywords == null) {
+            return Optional.empty();
+        }
+        KeywordResponseDto response = new KeywordResponseDto();
+        response.setKeywordFrequencies(keywords);
+        return Optional.of(response);
+    }
+
+    /**
+     * degraded 결과는 저장하지 않는다.
+     */
+    public void putResponse(Long userId, LocalDate date, KeywordResponseDto response) {
+        if (response.isDegraded() || response.getKeywordFrequencies() == null) {
+            return;
+        }
+        cache.put(new Key(userId, date, Kind.RESPONSE), copyOf(response.getKeywordFrequencies()));
+    }
+
+    public Optional<List<KeywordFrequencyDto>> getTopKeywords(Long userId, LocalDate date) {
+        return Optional.ofNullable(cache.getIfPresent(new Key(userId, date, Kind.TOP_KEYWORDS)));
+    }
+
+    public void putTopKeywords(Long userId, LocalDate date, List<KeywordFrequencyDto> topKeywords) {
+        cache.put(new Key(userId, date, Kind.TOP_KEYWORDS), copyOf(topKeywords));
+    }
+
+    /**
+     * 사용자의 해당 날짜 항목 전체 삭제
+     */
+    public void invalidateUser(Long userId, LocalDate date) {
+        for (Kind kind : Kind.values()) {
+            cache.invalidate(new Key(userId, date, kind));
+        }
+    }
+
+    /**
+     * 새 키워드가 저장된 뒤 상위 키워드만 다시 계산하도록 삭제
+     */
+    public void invalidateTopKeywords(Long userId, LocalDate date) {
+        cache.invalidate(new Key(userId, date, Kind.TOP_KEYWORDS));
+    }
+
+    private static List<KeywordFrequencyDto> copyOf(List<KeywordFrequencyDto> keywords) {
+        return keywords.stream().filter(Objects::nonNull).toList();
+    }
+
+    private static int estimateBytes(List<KeywordFrequencyDto> keywords) {
+        int bytes = ENTRY_OVERHEAD_BYTES;
+        for (KeywordFrequencyDto keyword : keywords) {
+            String text = keyword.getKeyword();
+            bytes += KEYWORD_OVERHEAD_BYTES + (text == null ? 0 : text.length() * 2);
+        }
+        return bytes;
+    }
+
+    private enum Kind {
+        RESPONSE, TOP_KEYWORDS
+    }
+
+    private record Key(Long userId, LocalDate date, Kind kind) {
+    }
+}
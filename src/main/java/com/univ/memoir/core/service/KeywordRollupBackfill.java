@@ -0,0 +1,44 @@
+package com.univ.memoir.core.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.core.repository.KeywordDailyAggregateRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주/월 롤업 도입 전에 쌓인 일별 집계를 롤업으로 옮기는 일회성 작업
+ * - 시작 시 롤업 테이블이 비어 있을 때만 실행한다. (한 번 채워지면 이후 저장/삭제가 롤업을 함께 갱신)
+ * - 사용자마다 일별 행을 잠그고 합으로 덮어쓰므로, 여러 인스턴스가 동시에 실행하거나 요청과 겹쳐도 결과가 같다.
+ * 옮기기 전에는 롤업에 없는 날짜를 삭제할 때 롤업에서 빼지 못하므로, 시작 시점에 먼저 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordRollupBackfill {
+
+    private final KeywordDailyAggregateRepository keywordDailyAggregateRepository;
+    private final KeywordStore keywordStore;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (!keywordDailyAggregateRepository.hasEmptyRollup()) {
+                return;
+            }
+            List<Long> userIds = keywordDailyAggregateRepository.findAggregatedUserIds();
+            for (Long userId : userIds) {
+                keywordStore.rebuildRollups(userId);
+            }
+            log.info("키워드 주/월 롤업 백필 완료 - users: {}", userIds.size());
+        } catch (DataAccessException e) {
+            log.warn("키워드 주/월 롤업 백필 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,29 +1,13 @@
 package com.univ.memoir.core.service;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
-
-import lombok.Getter;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
-import org.springframework.scheduling.annotation.Async;
+
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -31,9 +15,15 @@ import com.univ.memoir.api.dto.req.VisitedPageDto;
 import com.univ.memoir.api.dto.req.VisitedPagesRequest;
 import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
 import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
-import com.univ.memoir.core.domain.KeywordData;
+import com.univ.memoir.api.exception.GlobalException;
+import com.univ.memoir.api.exception.customException.OpenAiUnavailableException;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.core.category.PageClusterer;
 import com.univ.memoir.core.domain.User;
-import com.univ.memoir.core.repository.KeywordDataRepository;
+import com.univ.memoir.core.openai.LlmJsonExtractor;
+import com.univ.memoir.core.openai.OpenAiGateway;
+import com.univ.memoir.core.openai.OpenAiUseCase;
+import com.univ.memoir.core.support.TopKCounter;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -45,60 +35,60 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Service
 @Slf4j
-@Transactional(readOnly = true)
 public class KeywordService {
 
     private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
-    private static final long CACHE_DURATION_MS = 6 * 60 * 60 * 1000L; // 6시간 (더 짧게)
 
     private final ObjectMapper objectMapper;
-    private final RestTemplate openAiRestTemplate;
+    private final OpenAiGateway openAiGateway;
+    private final LlmJsonExtractor llmJsonExtractor;
+    private final PageClusterer pageClusterer;
+    private final LocalKeywordExtractor localKeywordExtractor;
     private final UserService userService;
-    private final KeywordDataRepository keywordDataRepository;
-
-    @Value("${openai.api.key}")
-    private String apiKey;
-
-    @Value("${openai.model}")
-    private String openaiModel;
-
-    @Value("${openai.api.base-url}${openai.uri}")
-    private String openaiUri;
-
-    /**
-     * 성능 최적화된 메모리 캐시
-     * 더 짧은 캐시 주기로 메모리 사용량 절약
-     */
-    private final Map<String, CachedKeywordData> memoryCache = new ConcurrentHashMap<>();
+    private final KeywordStore keywordStore;
+    private final KeywordAsyncWriter keywordAsyncWriter;
+    private final KeywordMemoryCache memoryCache;
 
     /**
      * 기존 API 구조 유지 - 키워드 분석
      * 성능 최적화: 캐시 hit율 향상, 비동기 처리 추가
      */
-    @Transactional
-    public KeywordResponseDto analyzeKeywords(String accessToken, VisitedPagesRequest request) {
-        User user = userService.findByAccessToken(accessToken);
+    public KeywordResponseDto analyzeKeywords(AuthUser authUser, VisitedPagesRequest request) {
+        User user = userService.getReference(authUser);
         List<VisitedPageDto> visitedPages = request.getVisitedPages();
 
         validateVisitedPages(visitedPages);
 
         LocalDate today = LocalDate.now(KST_ZONE);
-        String cacheKey = generateCacheKey(user.getId(), today);
 
         // 성능 최적화 1: 더 효율적인 캐시 체크
-        KeywordResponseDto cachedResult = getCachedResult(user, today, cacheKey);
+        KeywordResponseDto cachedResult = getCachedResult(user, today);
         if (cachedResult != null) {
-            // 비동기로 캐시 갱신 체크 (백그라운드에서 실행)
-            asyncCacheRefreshCheck(user, today, visitedPages.size());
             return cachedResult;
         }
 
         // 캐시 미스 시 OpenAI API 호출
         log.info("Cache miss - calling OpenAI API - userId: {}", user.getId());
-        KeywordResponseDto result = callOpenAiApi(visitedPages);
+        KeywordResponseDto result;
+        try {
+            result = callOpenAiApi(visitedPages);
+        } catch (OpenAiUnavailableException e) {
+            // 서킷 브레이커가 열린 동안은 제목 단어 빈도로 대신하고, 캐시/DB 에는 남기지 않는다 (다음 요청에서 GPT 재시도)
+            log.warn("OpenAI unavailable - local keyword extraction - userId: {}", user.getId());
+            return localKeywords(visitedPages);
+        }
 
-        // 성능 최적화 2: 비동기 저장
-        asyncSaveToAllCaches(cacheKey, user, result);
+        // 성능 최적화 2: 메모리 캐시는 바로, DB 는 비동기 저장 (저장이 끝나면 상위 키워드를 다시 계산하도록 삭제)
+        Long userId = user.getId();
+        memoryCache.invalidateUser(userId, today);
+        memoryCache.putResponse(userId, today, result);
+        keywordAsyncWriter.save(userId, today, result)
+                .whenComplete((ignored, e) -> {
+                    memoryCache.invalidateTopKeywords(userId, today);
+                    if (e != null) {
+                        log.error("Async save failed - userId: {}", userId, e);
+                    }
+                });
 
         return result;
     }
@@ -107,38 +97,23 @@ public class KeywordService {
      * 기존 API 구조 유지 - 상위 키워드 조회
      * 성능 최적화: 더 효율적인 쿼리와 캐싱
      */
-    public List<KeywordFrequencyDto> getTopKeywordsForToday(String accessToken) {
-        User user = userService.findByAccessToken(accessToken);
+    public List<KeywordFrequencyDto> getTopKeywordsForToday(AuthUser authUser) {
+        User user = userService.getReference(authUser);
         LocalDate today = LocalDate.now(KST_ZONE);
 
-        // 성능 최적화 3: 더 스마트한 캐시 키
-        String cacheKey = "top_keywords_" + user.getId() + "_" + today;
-
         // 메모리 캐시에서 먼저 확인
-        CachedKeywordData cached = memoryCache.get(cacheKey);
-        if (cached != null && cached.isValid()) {
-            return cached.getTopKeywords();
+        Optional<List<KeywordFrequencyDto>> cached = memoryCache.getTopKeywords(user.getId(), today);
+        if (cached.isPresent()) {
+            return cached.get();
         }
 
-        List<KeywordData> todayKeywords = getTodayKeywordsFromDatabase(user, today);
-
-        if (todayKeywords.isEmpty()) {
+        List<KeywordFrequencyDto> topKeywords = keywordStore.findTopKeywords(user.getId(), today);
+        if (topKeywords.isEmpty()) {
             return List.of();
         }
 
-        // 성능 최적화 4: 스트림 연산 최적화
-        List<KeywordFrequencyDto> topKeywords = todayKeywords.parallelStream()
-                .collect(Collectors.groupingBy(
-                        KeywordData::getKeyword,
-                        Collectors.summingInt(KeywordData::getFrequency)))
-                .entrySet().parallelStream()
-                .map(entry -> new KeywordFrequencyDto(entry.getKey(), entry.getValue()))
-                .sorted((a, b) -> Integer.compare(b.getFrequency(), a.getFrequency()))
-                .limit(9)
-                .collect(Collectors.toList());
-
         // 결과를 메모리 캐시에 저장
-        memoryCache.put(cacheKey, new CachedKeywordData(null, topKeywords));
+        memoryCache.putTopKeywords(user.getId(), today, topKeywords);
 
         return topKeywords;
     }
@@ -146,111 +121,35 @@ public class KeywordService {
     /**
      * 성능 최적화 1: 통합 캐시 체크
      */
-    private KeywordResponseDto getCachedResult(User user, LocalDate today, String cacheKey) {
+    private KeywordResponseDto getCachedResult(User user, LocalDate today) {
         // 메모리 캐시 우선 확인
-        CachedKeywordData memoryCached = memoryCache.get(cacheKey);
-        if (memoryCached != null && memoryCached.isValid()) {
+        Optional<KeywordResponseDto> memoryCached = memoryCache.getResponse(user.getId(), today);
+        if (memoryCached.isPresent()) {
             log.debug("Memory cache hit - userId: {}", user.getId());
-            return memoryCached.getKeywordResponse();
+            return memoryCached.get();
         }
 
-        // DB 캐시 확인
-        Optional<KeywordResponseDto> dbCached = getKeywordsFromDatabase(user, today);
+        // DB 확인 (메모리 캐시는 이 한 층만 둔다)
+        Optional<KeywordResponseDto> dbCached = keywordStore.findDaily(user.getId(), today);
         if (dbCached.isPresent()) {
             log.debug("Database cache hit - userId: {}", user.getId());
             // 메모리 캐시에도 저장
-            memoryCache.put(cacheKey, new CachedKeywordData(dbCached.get(), null));
+            memoryCache.putResponse(user.getId(), today, dbCached.get());
             return dbCached.get();
         }
 
         return null;
     }
 
-    /**
-     * 성능 최적화 2: 비동기 캐시 갱신 체크
-     * 사용자가 새로운 페이지를 많이 방문했으면 백그라운드에서 재분석
-     */
-    @Async
-    public void asyncCacheRefreshCheck(User user, LocalDate date, int currentPageCount) {
-        try {
-            List<KeywordData> existingKeywords = getTodayKeywordsFromDatabase(user, date);
-            int existingCount = existingKeywords.size();
-
-            // 새로운 페이지가 50% 이상 증가했으면 캐시 무효화 고려
-            if (currentPageCount > existingCount * 1.5) {
-                log.info("Significant activity increase detected - userId: {}, existing: {}, current: {}",
-                        user.getId(), existingCount, currentPageCount);
-                // 필요시 캐시 무효화 로직 추가 가능
-            }
-        } catch (Exception e) {
-            log.warn("Background cache refresh check failed", e);
-        }
-    }
-
-    /**
-     * 성능 최적화 3: 비동기 저장
-     */
-    @Async
-    public void asyncSaveToAllCaches(String cacheKey, User user, KeywordResponseDto result) {
-        try {
-            // 메모리 캐시 저장
-            memoryCache.put(cacheKey, new CachedKeywordData(result, null));
-
-            // DB 저장
-            saveToDatabase(user, result);
-
-            log.debug("Async save completed - userId: {}", user.getId());
-        } catch (Exception e) {
-            log.error("Async save failed", e);
-        }
-    }
-
-    /**
-     * 성능 최적화 4: 배치 삭제로 메모리 관리
-     */
-    public void cleanupExpiredCache() {
-        long now = System.currentTimeMillis();
-
-        memoryCache.entrySet().removeIf(entry -> {
-            return !entry.getValue().isValidAt(now);
-        });
-
-        log.debug("Cache cleanup completed - remaining entries: {}", memoryCache.size());
-    }
-
-    /**
-     * DB에서 키워드 조회 (Spring Cache 적용)
-     */
-    @Cacheable(value = "dailyKeywords", key = "#user.id + '_' + #date")
-    public Optional<KeywordResponseDto> getKeywordsFromDatabase(User user, LocalDate date) {
-        List<KeywordData> todayKeywords = getTodayKeywordsFromDatabase(user, date);
-
-        if (todayKeywords.isEmpty()) {
-            return Optional.empty();
-        }
-
-        return Optional.of(convertToResponseDto(todayKeywords));
-    }
-
     /**
      * 캐시 무효화
      */
-    @CacheEvict(value = {"dailyKeywords", "topKeywords"}, key = "#user.id + '_' + #date")
-    @Transactional
     public void invalidateCache(User user, LocalDate date) {
-        String cacheKey = generateCacheKey(user.getId(), date);
-        String topKeywordsCacheKey = "top_keywords_" + user.getId() + "_" + date;
-
         // 메모리 캐시 삭제
-        memoryCache.remove(cacheKey);
-        memoryCache.remove(topKeywordsCacheKey);
+        memoryCache.invalidateUser(user.getId(), date);
 
         // DB 데이터 삭제
-        List<KeywordData> keywordsToDelete = getTodayKeywordsFromDatabase(user, date);
-        if (!keywordsToDelete.isEmpty()) {
-            keywordDataRepository.deleteAll(keywordsToDelete);
-            log.info("Cache invalidated - userId: {}, date: {}", user.getId(), date);
-        }
+        keywordStore.deleteDaily(user.getId(), date);
     }
 
     // 기존 메서드들 (성능 최적화 없이 유지)
@@ -262,82 +161,72 @@ public class KeywordService {
 
     private KeywordResponseDto callOpenAiApi(List<VisitedPageDto> visitedPages) {
         try {
-            String prompt = createPrompt(visitedPages);
-            Map<String, Object> requestBody = createApiRequestBody(prompt);
-
-            HttpEntity<Map<String, Object>> entity = createHttpEntity(requestBody);
-            ResponseEntity<Map> response = openAiRestTemplate.postForEntity(openaiUri, entity, Map.class);
+            String prompt = createPrompt(collapseNearDuplicates(visitedPages));
+            String content = openAiGateway.complete(OpenAiUseCase.KEYWORDS,
+                    "당신은 인터넷 검색 기록을 보고 주요 키워드를 추출해주는 전문가입니다.", prompt, 0.3);
 
-            return parseApiResponse(response);
+            return rankKeywords(llmJsonExtractor.readObject(content, KeywordResponseDto.class));
 
+        } catch (GlobalException e) {
+            throw e;
         } catch (Exception e) {
             log.error("OpenAI API call failed", e);
             throw new RuntimeException("키워드 분석 실패: " + e.getMessage());
         }
     }
 
-    private Map<String, Object> createApiRequestBody(String prompt) {
-        return Map.of(
-                "model", openaiModel,
-                "messages", List.of(
-                        Map.of("role", "system", "content", "당신은 인터넷 검색 기록을 보고 주요 키워드를 추출해주는 전문가입니다."),
-                        Map.of("role", "user", "content", prompt)
-                ),
-                "temperature", 0.3
-        );
-    }
-
-    private HttpEntity<Map<String, Object>> createHttpEntity(Map<String, Object> requestBody) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(apiKey);
-        return new HttpEntity<>(requestBody, headers);
-    }
-
-    private KeywordResponseDto parseApiResponse(ResponseEntity<Map> response) throws JsonProcessingException {
-        List<?> choices = (List<?>) response.getBody().get("choices");
-        if (choices == null || choices.isEmpty()) {
-            throw new RuntimeException("OpenAI 응답에 선택지가 없습니다.");
+    /**
+     * GPT 가 같은 키워드를 나눠 주거나 순서 없이 주는 경우가 있어, 합친 뒤 빈도순으로 정렬
+     */
+    private KeywordResponseDto rankKeywords(KeywordResponseDto response) {
+        List<KeywordFrequencyDto> keywords = response.getKeywordFrequencies();
+        if (keywords == null || keywords.isEmpty()) {
+            return response;
         }
 
-        Map<String, Object> choice = (Map<String, Object>) choices.get(0);
-        Map<String, Object> message = (Map<String, Object>) choice.get("message");
-        String content = Objects.toString(message.get("content"), "");
-
-        return objectMapper.readValue(content, KeywordResponseDto.class);
-    }
-
-    private void saveToDatabase(User user, KeywordResponseDto dto) {
-        if (dto.getKeywordFrequencies() == null || dto.getKeywordFrequencies().isEmpty()) {
-            return;
+        TopKCounter counter = new TopKCounter(keywords.size());
+        for (KeywordFrequencyDto keyword : keywords) {
+            if (keyword != null && keyword.getKeyword() != null && !keyword.getKeyword().isBlank()) {
+                counter.add(keyword.getKeyword().strip(), keyword.getFrequency());
+            }
         }
-
-        List<KeywordData> keywordDataList = dto.getKeywordFrequencies().stream()
-                .map(kf -> new KeywordData(user, kf.getKeyword(), kf.getFrequency()))
-                .collect(Collectors.toList());
-
-        keywordDataRepository.saveAll(keywordDataList);
-        log.debug("Keywords saved - userId: {}, count: {}", user.getId(), keywordDataList.size());
-    }
-
-    private List<KeywordData> getTodayKeywordsFromDatabase(User user, LocalDate date) {
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
-        return keywordDataRepository.findByUserAndCreatedAtBetween(user, startOfDay, endOfDay);
+        response.setKeywordFrequencies(counter.top(counter.size(), KeywordFrequencyDto::new));
+        return response;
     }
 
-    private KeywordResponseDto convertToResponseDto(List<KeywordData> keywordDataList) {
-        List<KeywordFrequencyDto> frequencies = keywordDataList.stream()
-                .map(kd -> new KeywordFrequencyDto(kd.getKeyword(), kd.getFrequency()))
-                .collect(Collectors.toList());
-
+    private KeywordResponseDto localKeywords(List<VisitedPageDto> visitedPages) {
         KeywordResponseDto response = new KeywordResponseDto();
-        response.setKeywordFrequencies(frequencies);
+        response.setKeywordFrequencies(localKeywordExtractor.extract(
+                visitedPages, VisitedPageDto::getTitle, VisitedPageDto::getVisitCount, 10));
+        response.setDegraded(true);
         return response;
     }
 
-    private String generateCacheKey(Long userId, LocalDate date) {
-        return userId + "_" + date.toString();
+    /**
+     * 같은 URL / 비슷한 제목의 페이지는 첫 페이지 하나로 합쳐 보낸다 (visitCount, duration 은 구성원 합)
+     */
+    private List<VisitedPageDto> collapseNearDuplicates(List<VisitedPageDto> visitedPages) {
+        List<PageClusterer.Cluster> clusters =
+                pageClusterer.cluster(visitedPages, VisitedPageDto::getUrl, VisitedPageDto::getTitle);
+        if (clusters.size() == visitedPages.size()) {
+            return visitedPages;
+        }
+
+        List<VisitedPageDto> collapsed = new ArrayList<>(clusters.size());
+        for (PageClusterer.Cluster cluster : clusters) {
+            VisitedPageDto representative = visitedPages.get(cluster.representative());
+            VisitedPageDto merged = new VisitedPageDto();
+            merged.setTitle(representative.getTitle());
+            merged.setUrl(representative.getUrl());
+            for (int index : cluster.members()) {
+                VisitedPageDto member = visitedPages.get(index);
+                merged.setVisitCount(merged.getVisitCount() + member.getVisitCount());
+                merged.setDuration(merged.getDuration() + member.getDuration());
+            }
+            collapsed.add(merged);
+        }
+        log.debug("Near-duplicate pages collapsed - {} -> {}", visitedPages.size(), collapsed.size());
+        return collapsed;
     }
 
     private String createPrompt(List<VisitedPageDto> visitedPages) throws JsonProcessingException {
@@ -351,6 +240,7 @@ public class KeywordService {
                 4. 브랜드명/서비스명 포함 (예: "GitHub", "유튜브", "스타벅스")
                 5. 일반적이고 의미없는 단어 제외 (예: "검색", "사이트", "페이지")
                 6. 의미 있고 이해 가능한 단어만 추출 (기술적 코드나 무의미한 문자열 제외)
+                7. 비슷한 페이지는 하나로 합쳐져 있으므로 frequency 에는 visitCount 를 반영
                 
                 **키워드 예시:**
                 "GitHub - Spring Boot 프로젝트" → "GitHub"
@@ -374,29 +264,4 @@ public class KeywordService {
 
         return String.format(template, objectMapper.writeValueAsString(Map.of("visitedPages", visitedPages)));
     }
-
-    /**
-     * 성능 최적화된 캐시 데이터 클래스
-     */
-    private static class CachedKeywordData {
-        @Getter
-        private final KeywordResponseDto keywordResponse;
-        @Getter
-        private final List<KeywordFrequencyDto> topKeywords;
-        private final long cachedAt;
-
-        public CachedKeywordData(KeywordResponseDto keywordResponse, List<KeywordFrequencyDto> topKeywords) {
-            this.keywordResponse = keywordResponse;
-            this.topKeywords = topKeywords;
-            this.cachedAt = System.currentTimeMillis();
-        }
-
-        public boolean isValid() {
-            return isValidAt(System.currentTimeMillis());
-        }
-
-        public boolean isValidAt(long currentTime) {
-            return (currentTime - cachedAt) < CACHE_DURATION_MS;
-        }
-    }
-}
\ No newline at end of file
+}
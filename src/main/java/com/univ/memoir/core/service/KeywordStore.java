@@ -0,0 +1,108 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.core.domain.KeywordDailyAggregate;
+import com.univ.memoir.core.domain.KeywordData;
+import com.univ.memoir.core.repository.KeywordDailyAggregateRepository;
+import com.univ.memoir.core.repository.KeywordDataRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자/날짜별 키워드 저장소 - DB 읽기/쓰기만 맡고, 메모리 캐시는 KeywordService 의 KeywordMemoryCache 한 곳에만 둔다.
+ * 분석 결과는 keyword_daily_aggregate 에 키워드별 빈도로 누적한다. (분석마다 행을 새로 쌓지 않음)
+ * 주/월 롤업(keyword_weekly_aggregate, keyword_monthly_aggregate)도 같은 트랜잭션에서 함께 더하고 뺀다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KeywordStore {
+
+    private final KeywordDailyAggregateRepository keywordDailyAggregateRepository;
+    private final KeywordDataRepository keywordDataRepository;
+
+    public Optional<KeywordResponseDto> findDaily(Long userId, LocalDate date) {
+        List<KeywordDailyAggregate> keywords =
+                keywordDailyAggregateRepository.findAllByUserIdAndDateOrderByFrequencyDesc(userId, date);
+        if (keywords.isEmpty()) {
+            return Optional.empty();
+        }
+
+        KeywordResponseDto response = new KeywordResponseDto();
+        response.setKeywordFrequencies(toFrequencies(keywords));
+        return Optional.of(response);
+    }
+
+    /**
+     * 상위 9개 - (user_id, date, frequency) 인덱스를 역순으로 읽어 LIMIT 9 에서 멈춘다.
+     */
+    public List<KeywordFrequencyDto> findTopKeywords(Long userId, LocalDate date) {
+        return toFrequencies(keywordDailyAggregateRepository.findTop9ByUserIdAndDateOrderByFrequencyDesc(userId, date));
+    }
+
+    @Transactional
+    public void save(Long userId, LocalDate date, KeywordResponseDto dto) {
+        if (dto.getKeywordFrequencies() == null || dto.getKeywordFrequencies().isEmpty()) {
+            return;
+        }
+
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        for (KeywordFrequencyDto kf : dto.getKeywordFrequencies()) {
+            if (kf != null && kf.getKeyword() != null) {
+                frequencies.merge(kf.getKeyword(), kf.getFrequency(), Integer::sum);
+            }
+        }
+
+        keywordDailyAggregateRepository.upsertAll(userId, date, frequencies);
+        log.debug("Keywords saved - userId: {}, count: {}", userId, frequencies.size());
+    }
+
+    @Transactional
+    public void deleteDaily(Long userId, LocalDate date) {
+        // 주/월 롤업에서 그날 몫을 먼저 뺀다.
+        Map<String, Integer> dailyFrequencies = keywordDailyAggregateRepository
+                .findAllByUserIdAndDateOrderByFrequencyDesc(userId, date).stream()
+                .collect(Collectors.toMap(KeywordDailyAggregate::getKeyword, KeywordDailyAggregate::getFrequency));
+        keywordDailyAggregateRepository.subtractFromRollups(userId, date, dailyFrequencies);
+        int deleted = keywordDailyAggregateRepository.deleteByUserIdAndDate(userId, date);
+
+        // 집계 테이블 도입 이전에 쌓인 행
+        LocalDateTime startOfDay = date.atStartOfDay();
+        LocalDateTime endOfDay = date.atTime(LocalTime.MAX);
+        List<KeywordData> legacyRows =
+                keywordDataRepository.findByUserIdAndCreatedAtBetween(userId, startOfDay, endOfDay);
+        if (!legacyRows.isEmpty()) {
+            keywordDataRepository.deleteAll(legacyRows);
+        }
+        log.info("Keywords deleted - userId: {}, date: {}, rows: {}", userId, date, deleted + legacyRows.size());
+    }
+
+    /**
+     * 사용자의 주/월 롤업을 일별 집계의 합으로 다시 쓴다. (사용자마다 한 트랜잭션)
+     */
+    @Transactional
+    public void rebuildRollups(Long userId) {
+        keywordDailyAggregateRepository.rebuildRollups(userId);
+    }
+
+    private static List<KeywordFrequencyDto> toFrequencies(List<KeywordDailyAggregate> keywords) {
+        return keywords.stream()
+                .map(k -> new KeywordFrequencyDto(k.getKeyword(), k.getFrequency()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.univ.memoir.core.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTrendResponse;
+import com.univ.memoir.api.exception.codes.ErrorCode;
+import com.univ.memoir.api.exception.customException.InvalidKeywordTrendRequestException;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.core.domain.KeywordTrendGranularity;
+import com.univ.memoir.core.repository.KeywordDailyAggregateRepository;
+import com.univ.memoir.core.repository.KeywordMonthlyAggregateRepository;
+import com.univ.memoir.core.repository.KeywordPeriodFrequency;
+import com.univ.memoir.core.repository.KeywordTotalFrequency;
+import com.univ.memoir.core.repository.KeywordWeeklyAggregateRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기간별 키워드 추이 - 단위에 맞는 롤업 테이블에서 읽는다.
+ * - 기간별 상위 9개는 SQL(row_number)에서 잘라 오므로 읽는 행은 기간 수(최대 60) × 9 를 넘지 않는다.
+ * - 구간 전체 상위 9개는 SQL 에서 키워드별로 합산해 9개만 받는다.
+ * 일별 원본(keyword_data)을 훑거나 JVM 에서 날짜별로 다시 묶지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class KeywordTrendService {
+
+    private static final int MAX_PERIODS = 60;
+    private static final int TOP_KEYWORD_COUNT = 9;
+
+    private final KeywordDailyAggregateRepository keywordDailyAggregateRepository;
+    private final KeywordWeeklyAggregateRepository keywordWeeklyAggregateRepository;
+    private final KeywordMonthlyAggregateRepository keywordMonthlyAggregateRepository;
+
+    public KeywordTrendResponse getTrend(AuthUser authUser, LocalDate from, LocalDate to, String granularityValue) {
+        KeywordTrendGranularity granularity = KeywordTrendGranularity.from(granularityValue)
+                .orElseThrow(() -> new InvalidKeywordTrendRequestException(ErrorCode.INVALID_KEYWORD_TREND_GRANULARITY));
+        if (from.isAfter(to)) {
+            throw new InvalidKeywordTrendRequestException(ErrorCode.INVALID_KEYWORD_TREND_RANGE);
+        }
+
+        LocalDate firstPeriod = granularity.periodStart(from);
+        LocalDate lastPeriod = granularity.periodStart(to);
+        if (granularity.periodsBetween(firstPeriod, lastPeriod) > MAX_PERIODS) {
+            throw new InvalidKeywordTrendRequestException(ErrorCode.KEYWORD_TREND_RANGE_TOO_LONG);
+        }
+
+        Long userId = authUser.id();
+        List<KeywordPeriodFrequency> rows = switch (granularity) {
+            case DAILY -> keywordDailyAggregateRepository.findTrend(userId, firstPeriod, lastPeriod);
+            case WEEKLY -> keywordWeeklyAggregateRepository.findTrend(userId, firstPeriod, lastPeriod);
+            case MONTHLY -> keywordMonthlyAggregateRepository.findTrend(userId, firstPeriod, lastPeriod);
+        };
+        PageRequest top = PageRequest.of(0, TOP_KEYWORD_COUNT);
+        List<KeywordTotalFrequency> totals = switch (granularity) {
+            case DAILY -> keywordDailyAggregateRepository.findTotals(userId, firstPeriod, lastPeriod, top);
+            case WEEKLY -> keywordWeeklyAggregateRepository.findTotals(userId, firstPeriod, lastPeriod, top);
+            case MONTHLY -> keywordMonthlyAggregateRepository.findTotals(userId, firstPeriod, lastPeriod, top);
+        };
+
+        // 행은 기간 → 빈도 내림차순으로 오고, 기간마다 이미 9개 이하다.
+        Map<LocalDate, List<KeywordFrequencyDto>> keywordsByPeriod = new HashMap<>();
+        for (KeywordPeriodFrequency row : rows) {
+            keywordsByPeriod.computeIfAbsent(row.getPeriodStart(), start -> new ArrayList<>())
+                    .add(new KeywordFrequencyDto(row.getKeyword(), row.getFrequency()));
+        }
+
+        List<KeywordTrendResponse.Period> periods = new ArrayList<>();
+        for (LocalDate start = firstPeriod; !start.isAfter(lastPeriod); start = granularity.next(start)) {
+            periods.add(new KeywordTrendResponse.Period(start, granularity.periodEnd(start),
+                    keywordsByPeriod.getOrDefault(start, List.of())));
+        }
+
+        return new KeywordTrendResponse(granularity, firstPeriod, granularity.periodEnd(lastPeriod),
+                totals.stream()
+                        .map(total -> new KeywordFrequencyDto(total.getKeyword(), Math.toIntExact(total.getFrequency())))
+                        .toList(),
+                periods);
+    }
+}
@@ -0,0 +1,70 @@
+package com.univ.memoir.core.service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.core.support.TopKCounter;
+
+/**
+ * GPT 없이 제목 단어 빈도로 키워드 추출 (서킷 브레이커가 열렸을 때의 대체 경로)
+ * - 제목을 문자/숫자 외 기호로 나누고, 불용어/한 글자/숫자만인 단어는 버리며 명사와 헷갈리지 않는 조사(을/를/은/는 등)만 떼어낸다.
+ * - 단어 빈도는 페이지 가중치(visitCount 등)로 더하고, 대소문자만 다른 단어는 처음 나온 표기로 합친다.
+ * - 빈도가 같으면 먼저 나온 단어가 앞선다.
+ */
+@Component
+public class LocalKeywordExtractor {
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "검색", "사이트", "페이지", "홈", "로그인", "메인", "바로가기", "새", "탭", "목록", "결과",
+            "home", "login", "search", "page", "new", "tab", "the", "and", "for", "with", "you", "your",
+            "www", "com", "net", "http", "https", "html");
+    private static final String[] PARTICLES = {"으로", "에서", "을", "를", "은", "는"};
+
+    /**
+     * 가중 빈도 상위 limit 개 키워드 (빈도 내림차순)
+     */
+    public <T> List<KeywordFrequencyDto> extract(List<T> items, Function<T, String> titleOf,
+                                                 ToIntFunction<T> weightOf, int limit) {
+        TopKCounter counts = new TopKCounter(items.size() * 4);
+        Map<String, String> display = new HashMap<>();
+
+        for (T item : items) {
+            String title = titleOf.apply(item);
+            if (title == null || title.isBlank()) {
+                continue;
+            }
+            int weight = Math.max(1, weightOf.applyAsInt(item));
+            for (String raw : DELIMITER.split(title)) {
+                String word = stripParticle(raw);
+                String key = word.toLowerCase(Locale.ROOT);
+                if (word.length() < 2 || STOPWORDS.contains(key) || word.chars().allMatch(Character::isDigit)) {
+                    continue;
+                }
+                counts.add(key, weight);
+                display.putIfAbsent(key, word);
+            }
+        }
+
+        return counts.top(limit, (key, count) -> new KeywordFrequencyDto(display.get(key), count));
+    }
+
+    private static String stripParticle(String word) {
+        for (String particle : PARTICLES) {
+            if (word.length() > particle.length() + 1 && word.endsWith(particle)
+                    && Character.UnicodeBlock.of(word.charAt(0)) == Character.UnicodeBlock.HANGUL_SYLLABLES) {
+                return word.substring(0, word.length() - particle.length());
+            }
+        }
+        return word;
+    }
+}
@@ -13,10 +13,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.univ.memoir.api.dto.res.DailyPopupResponse;
 import com.univ.memoir.api.dto.res.MonthlySummaryResponse;
-import com.univ.memoir.api.exception.codes.ErrorCode;
-import com.univ.memoir.api.exception.customException.UserNotFoundException;
+import com.univ.memoir.config.jwt.AuthUser;
 import com.univ.memoir.core.domain.DailySummary;
-import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.DailySummaryRepository;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -28,19 +26,12 @@ public class MonthlySummaryService {
 
 	private final DailySummaryRepository dailySummaryRepository;
 	private final ObjectMapper objectMapper;
-	private final UserService userService;
-
-	public MonthlySummaryResponse.Data getMonthlySummary(String accessToken, YearMonth yearMonth) {
-		User user = userService.findByAccessToken(accessToken);
-
-		if (user == null) {
-			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
-		}
 
+	public MonthlySummaryResponse.Data getMonthlySummary(AuthUser authUser, YearMonth yearMonth) {
 		LocalDate start = yearMonth.atDay(1);
 		LocalDate end = yearMonth.atEndOfMonth();
 
-		List<DailySummary> summaries = dailySummaryRepository.findAllByUserAndDateBetween(user, start, end);
+		List<DailySummary> summaries = dailySummaryRepository.findAllByUserIdAndDateBetween(authUser.id(), start, end);
 
 		List<MonthlySummaryResponse.CalendarEntry> entries = summaries.stream()
 			.collect(
@@ -77,14 +68,8 @@ public class MonthlySummaryService {
 		return "기록 없음";
 	}
 
-	public DailyPopupResponse.Data getDailyPopup(String accessToken, LocalDate date) {
-		User user = userService.findByAccessToken(accessToken);
-
-		if (user == null) {
-			throw new UserNotFoundException(ErrorCode.USER_NOT_FOUND);
-		}
-
-		DailySummary summary = dailySummaryRepository.findByUserAndDate(user, date)
+	public DailyPopupResponse.Data getDailyPopup(AuthUser authUser, LocalDate date) {
+		DailySummary summary = dailySummaryRepository.findByUserIdAndDate(authUser.id(), date)
 				.orElseThrow(() -> new EntityNotFoundException("해당 날짜의 요약이 존재하지 않습니다."));
 
 		List<String> summaryTexts = parseSummaryTextJson(summary.getSummaryTextJson());
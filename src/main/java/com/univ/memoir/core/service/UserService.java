@@ -5,8 +5,9 @@ import java.util.Set;
 import org.springframework.stereotype.Service;
 
 import com.univ.memoir.api.exception.codes.ErrorCode;
-import com.univ.memoir.api.exception.customException.InvalidTokenException;
-import com.univ.memoir.config.jwt.JwtProvider;
+import com.univ.memoir.api.exception.customException.UserNotFoundException;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.config.jwt.TokenVersionStore;
 import com.univ.memoir.core.domain.InterestType;
 import com.univ.memoir.core.domain.User;
 import com.univ.memoir.core.repository.UserRepository;
@@ -19,34 +20,38 @@ import lombok.RequiredArgsConstructor;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final JwtProvider jwtProvider;
+    private final TokenVersionStore tokenVersionStore;
 
     @Transactional
-    public User updateUserInterestsByToken(String accessToken, Set<InterestType> interests) {
-        String email = jwtProvider.getEmailFromToken(accessToken);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new InvalidTokenException(ErrorCode.INVALID_JWT_ACCESS_TOKEN));
+    public User updateUserInterests(AuthUser authUser, Set<InterestType> interests) {
+        User user = getUser(authUser);
         user.updateInterests(interests);
         return user;
     }
 
-    public User findByAccessToken(String accessToken) {
-        // Bearer 접두사 제거
-        if (accessToken.startsWith("Bearer ")) {
-            accessToken = accessToken.substring(7).trim();
-        }
-
-        // 토큰 유효성 검사
-        if (!jwtProvider.validateToken(accessToken)) {
-            throw new InvalidTokenException(ErrorCode.INVALID_JWT_ACCESS_TOKEN);
-        }
+    /**
+     * 회원 탈퇴 - 상태 변경과 함께 발급된 토큰을 모두 폐기
+     */
+    @Transactional
+    public void withdraw(AuthUser authUser) {
+        User user = getUser(authUser);
+        user.withdraw();
+        tokenVersionStore.update(user.getId(), user.getTokenVersion());
+    }
 
-        // 이메일 추출
-        String email = jwtProvider.getEmailFromToken(accessToken);
+    /**
+     * FK 지정/조회 조건용 프록시 - SELECT 없이 user_id 만 사용
+     */
+    public User getReference(AuthUser authUser) {
+        return userRepository.getReferenceById(authUser.id());
+    }
 
-        // 사용자 조회
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new InvalidTokenException(ErrorCode.INVALID_JWT_ACCESS_TOKEN));
+    /**
+     * 필터에서 검증된 인증 주체로 사용자 조회 (토큰 재검증 없이 PK 조회)
+     */
+    public User getUser(AuthUser authUser) {
+        return userRepository.findById(authUser.id())
+                .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
     }
 
 }
@@ -0,0 +1,38 @@
+package com.univ.memoir.core.support;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 요청 본문 비교용 SHA-256 해시
+ */
+public final class ContentHash {
+
+    private ContentHash() {
+    }
+
+    /**
+     * 객체를 JSON 으로 직렬화한 결과의 해시
+     */
+    public static String ofJson(ObjectMapper objectMapper, Object value) {
+        try {
+            return sha256(objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("해시 계산용 JSON 직렬화 실패", e);
+        }
+    }
+
+    public static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
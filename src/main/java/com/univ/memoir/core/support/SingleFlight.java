@@ -0,0 +1,68 @@
+package com.univ.memoir.core.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 같은 키로 동시에 들어온 작업을 하나로 합치는 유틸
+ * - 먼저 들어온 호출(leader)이 자기 스레드에서 작업을 실행하고, 진행 중에 들어온 같은 키의 호출은 그 결과(또는 예외)를 함께 받는다.
+ * - 작업이 끝나면 키를 제거하므로 결과를 캐시하지는 않는다.
+ */
+@Slf4j
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(String name) {
+        this.name = name;
+    }
+
+    public V execute(K key, Supplier<V> task) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            log.debug("[{}] 진행 중인 작업에 합류 - key: {}", name, key);
+            return await(existing);
+        }
+
+        try {
+            V value = task.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 현재 진행 중인 키 수 (모니터링용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.univ.memoir.core.support;
+
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * 조각으로 도착하는 JSON 객체에서, 최상위 배열 필드의 원소가 완성될 때마다 그 원소의 JSON 텍스트를 전달
+ * 예: {"summaryText": ["a", "b"]} → ("summaryText", "\"a\""), ("summaryText", "\"b\"")
+ * - 첫 '{' 이전의 텍스트(```json 등 코드블록 표시)는 무시한다.
+ * - 문자열 안의 괄호/따옴표 이스케이프를 고려하며, 원소 자체의 파싱은 호출자가 한다.
+ * - 상태를 가지므로 하나의 응답에만 사용 (스레드 안전하지 않음)
+ */
+public class StreamingJsonArrayParser {
+
+    private final Set<String> fields;
+    private final BiConsumer<String, String> onElement;
+
+    private boolean started;
+    private boolean finished;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    private final StringBuilder keyBuffer = new StringBuilder();
+    private String lastString;
+    private String currentField;
+
+    private final StringBuilder element = new StringBuilder();
+    private boolean capturing;
+    private boolean capturingString;
+
+    public StreamingJsonArrayParser(Set<String> fields, BiConsumer<String, String> onElement) {
+        this.fields = fields;
+        this.onElement = onElement;
+    }
+
+    public void feed(CharSequence chunk) {
+        for (int i = 0; i < chunk.length() && !finished; i++) {
+            accept(chunk.charAt(i));
+        }
+    }
+
+    private void accept(char c) {
+        if (!started) {
+            if (c == '{') {
+                started = true;
+                depth = 1;
+            }
+            return;
+        }
+
+        if (capturing) {
+            element.append(c);
+        }
+
+        if (inString) {
+            if (escaped) {
+                escaped = false;
+                appendKey(c);
+            } else if (c == '\\') {
+                escaped = true;
+                appendKey(c);
+            } else if (c == '"') {
+                inString = false;
+                if (depth == 1) {
+                    lastString = keyBuffer.toString();
+                }
+                if (capturing && capturingString && depth == 2) {
+                    emit();
+                }
+            } else {
+                appendKey(c);
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                if (depth == 1) {
+                    keyBuffer.setLength(0);
+                } else if (depth == 2 && isTrackedField() && !capturing) {
+                    startCapture(c, true);
+                }
+            }
+            case '{', '[' -> {
+                if (depth == 2 && isTrackedField() && !capturing) {
+                    startCapture(c, false);
+                }
+                depth++;
+            }
+            case '}', ']' -> {
+                depth--;
+                if (capturing && !capturingString && depth == 2) {
+                    emit();
+                }
+                if (depth == 0) {
+                    finished = true;
+                }
+            }
+            case ':' -> {
+                if (depth == 1) {
+                    currentField = lastString;
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private boolean isTrackedField() {
+        return currentField != null && fields.contains(currentField);
+    }
+
+    private void appendKey(char c) {
+        if (depth == 1) {
+            keyBuffer.append(c);
+        }
+    }
+
+    private void startCapture(char first, boolean isString) {
+        element.setLength(0);
+        element.append(first);
+        capturing = true;
+        capturingString = isString;
+    }
+
+    private void emit() {
+        capturing = false;
+        onElement.accept(currentField, element.toString());
+        element.setLength(0);
+    }
+}
@@ -0,0 +1,195 @@
+package com.univ.memoir.core.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 문자열 키별 빈도를 더하고 상위 k 개를 고르는 집계기
+ * - 키는 처음 등장한 순서대로 int id 를 받고, 빈도는 id 로 인덱싱한 int[] 에 더한다. (박싱, Map.Entry 생성 없음)
+ * - 상위 k 개는 크기 k 의 최소 힙(int[])으로 고른다. O(n log k), 전체 정렬 없음
+ * - 빈도가 같으면 먼저 등장한 키가 앞선다.
+ * - 상태를 가지므로 한 스레드에서만 사용 (clear() 후 재사용 가능)
+ */
+public class TopKCounter {
+
+    private String[] keys;
+    private int[] hashes;
+    private int[] counts;
+    private int size;
+
+    // 오픈 어드레싱 해시 테이블: slot → id + 1 (0 은 빈 슬롯)
+    private int[] table;
+    private int mask;
+
+    @FunctionalInterface
+    public interface EntryMapper<R> {
+        R map(String key, int count);
+    }
+
+    public TopKCounter() {
+        this(16);
+    }
+
+    public TopKCounter(int expectedKeys) {
+        int capacity = Math.max(4, expectedKeys);
+        this.keys = new String[capacity];
+        this.hashes = new int[capacity];
+        this.counts = new int[capacity];
+        this.table = new int[tableSizeFor(capacity * 2)];
+        this.mask = table.length - 1;
+    }
+
+    public void add(String key, int count) {
+        int hash = mix(key.hashCode());
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int id = entry - 1;
+            if (hashes[id] == hash && keys[id].equals(key)) {
+                counts[id] += count;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (size == keys.length) {
+            grow();
+        }
+        keys[size] = key;
+        hashes[size] = hash;
+        counts[size] = count;
+        table[slot] = ++size;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+    }
+
+    public int count(String key) {
+        int hash = mix(key.hashCode());
+        int slot = hash & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int id = entry - 1;
+            if (hashes[id] == hash && keys[id].equals(key)) {
+                return counts[id];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * 빈도 내림차순 상위 k 개
+     */
+    public <R> List<R> top(int k, EntryMapper<R> mapper) {
+        int limit = Math.min(k, size);
+        if (limit <= 0) {
+            return new ArrayList<>(0);
+        }
+
+        // 루트가 k 개 중 가장 약한 id 인 최소 힙
+        int[] heap = new int[limit];
+        int heapSize = 0;
+        for (int id = 0; id < size; id++) {
+            if (heapSize < limit) {
+                heap[heapSize] = id;
+                siftUp(heap, heapSize++);
+            } else if (ranksBefore(id, heap[0])) {
+                heap[0] = id;
+                siftDown(heap, 0, heapSize);
+            }
+        }
+
+        // 가장 약한 것부터 꺼내 뒤에서부터 채운다
+        int[] ordered = new int[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ordered[i] = heap[0];
+            heap[0] = heap[--heapSize];
+            siftDown(heap, 0, heapSize);
+        }
+
+        List<R> result = new ArrayList<>(ordered.length);
+        for (int id : ordered) {
+            result.add(mapper.map(keys[id], counts[id]));
+        }
+        return result;
+    }
+
+    /**
+     * a 가 b 보다 앞 순위인지 (빈도가 크거나, 같으면 먼저 등장)
+     */
+    private boolean ranksBefore(int a, int b) {
+        return counts[a] > counts[b] || (counts[a] == counts[b] && a < b);
+    }
+
+    private void siftUp(int[] heap, int index) {
+        int id = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!ranksBefore(heap[parent], id)) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = id;
+    }
+
+    private void siftDown(int[] heap, int index, int heapSize) {
+        int id = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && ranksBefore(heap[child], heap[right])) {
+                child = right;
+            }
+            if (!ranksBefore(id, heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = id;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        hashes = Arrays.copyOf(hashes, capacity);
+        counts = Arrays.copyOf(counts, capacity);
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+        mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashes[id] & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        return Math.max(8, n);
+    }
+}
@@ -0,0 +1,130 @@
+package com.univ.memoir.config.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.Authentication;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.core.domain.InterestType;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.repository.UserRepository;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.security.jwt.secret=" + JwtProviderTest.SECRET
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JwtProvider.class, TokenVersionStore.class})
+class JwtProviderTest {
+
+    static final String SECRET = "memoir-test-secret-key-for-hs256-signing";
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenVersionStore tokenVersionStore;
+
+    // 공유 EntityManager - 트랜잭션 밖(NOT_SUPPORTED 테스트)에서도 clear() 를 호출할 수 있다.
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = User.builder()
+                .googleId("google-" + suffix)
+                .email(suffix + "@memoir.asia")
+                .name("memoir")
+                .build();
+        user.updateInterests(Set.of(InterestType.WORK, InterestType.STUDY));
+        user.addBookmarkUrl("https://github.com");
+        user.addBookmarkUrl("https://notion.so");
+        userRepository.saveAndFlush(user);
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void 인증_요청당_SQL은_한번만_실행된다() {
+        String token = jwtProvider.createAccessToken(user);
+        // 첫 요청에서 토큰 버전 테이블이 채워진 이후의 정상 상태를 측정
+        jwtProvider.getAuthentication(token);
+        statistics.clear();
+
+        Authentication authentication = jwtProvider.getAuthentication(token);
+
+        assertThat(authentication).isNotNull();
+        AuthUser authUser = ((CustomUserDetails) authentication.getPrincipal()).getAuthUser();
+        assertThat(authUser.id()).isEqualTo(user.getId());
+        assertThat(authUser.hasInterest(InterestType.WORK)).isTrue();
+        assertThat(authUser.hasInterest(InterestType.SHOPPING)).isFalse();
+        // 북마크 컬렉션은 로딩하지 않고 스냅샷 조회 한 번으로 끝나야 함
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 버전 테이블은 커밋 이후에 갱신됨
+    void 로그아웃으로_버전이_올라가면_기존_토큰은_거부된다() {
+        String token = jwtProvider.createAccessToken(user);
+        assertThat(jwtProvider.getAuthentication(token)).isNotNull();
+
+        tokenVersionStore.update(user.getId(), user.getTokenVersion() + 1);
+
+        assertThat(jwtProvider.getAuthentication(token)).isNull();
+    }
+
+    @Test
+    void uid_클레임이_없는_기존_토큰도_이메일로_인증된다() {
+        String legacyToken = Jwts.builder()
+                .setSubject(user.getEmail())
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+
+        Authentication authentication = jwtProvider.getAuthentication(legacyToken);
+
+        assertThat(authentication).isNotNull();
+        assertThat(((CustomUserDetails) authentication.getPrincipal()).getAuthUser().id()).isEqualTo(user.getId());
+    }
+
+    @Test
+    void 유효하지_않은_토큰은_SQL을_실행하지_않는다() {
+        Authentication authentication = jwtProvider.getAuthentication("invalid.token.value");
+
+        assertThat(authentication).isNull();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
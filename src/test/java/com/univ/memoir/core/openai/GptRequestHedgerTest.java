@@ -0,0 +1,129 @@
+package com.univ.memoir.core.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.config.HttpClientConfig;
+import com.univ.memoir.support.openai.OpenAiStubServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GptRequestHedgerTest {
+
+    private static final long STALL_MILLIS = 10_000;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private OpenAiStubServer stub;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private ThreadPoolTaskExecutor hedgeExecutor;
+    private GptCircuitBreaker circuitBreaker;
+    private OpenAiGateway gateway;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 두 번째 요청(헤지 대상 원 요청)만 멈춘다.
+        stub = OpenAiStubServer.start(new OpenAiStubServer.Config(
+                () -> calls.incrementAndGet() == 2 ? STALL_MILLIS : 0, 0, 0, 16));
+
+        HttpClientConfig httpClientConfig = new HttpClientConfig();
+        ReflectionTestUtils.setField(httpClientConfig, "maxTotal", 10);
+        ReflectionTestUtils.setField(httpClientConfig, "maxPerRoute", 10);
+        ReflectionTestUtils.setField(httpClientConfig, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(httpClientConfig, "readTimeout", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(httpClientConfig, "poolWaitTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(httpClientConfig, "deadline", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(httpClientConfig, "idleEviction", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(httpClientConfig, "timeToLive", Duration.ofMinutes(5));
+        connectionManager = httpClientConfig.httpConnectionManager(meterRegistry);
+        httpClient = httpClientConfig.pooledHttpClient(connectionManager);
+        RestTemplate restTemplate = new RestTemplate(httpClientConfig.pooledClientHttpRequestFactory(httpClient));
+
+        hedgeExecutor = new ThreadPoolTaskExecutor();
+        hedgeExecutor.setCorePoolSize(2);
+        hedgeExecutor.setMaxPoolSize(2);
+        hedgeExecutor.setQueueCapacity(0);
+        hedgeExecutor.initialize();
+
+        MockEnvironment environment = new MockEnvironment();
+        // 최소 호출 1건, 실패율 50% - 진 시도가 실패로 기록되면 바로 열린다.
+        circuitBreaker = new GptCircuitBreaker(event -> {
+        }, meterRegistry, environment, 20, 1, 0.5, Duration.ofSeconds(5), 0.5, Duration.ofSeconds(30), 3);
+        GptRequestHedger hedger = new GptRequestHedger(hedgeExecutor, circuitBreaker, meterRegistry, true,
+                List.of("keywords"), 0.95, 10, 1, Duration.ofMillis(100), 1, 5);
+
+        gateway = new OpenAiGateway(restTemplate, new ObjectMapper(), meterRegistry, environment,
+                circuitBreaker, hedger);
+        ReflectionTestUtils.setField(gateway, "model", "stub-model");
+        ReflectionTestUtils.setField(gateway, "completionsUrl", stub.baseUrl() + OpenAiStubServer.COMPLETIONS_PATH);
+        gateway.initBulkheads();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        hedgeExecutor.shutdown();
+        httpClient.close();
+        stub.close();
+    }
+
+    @Test
+    void 헤지가_이기면_진_요청의_커넥션과_permit과_스레드를_바로_돌려받는다() {
+        // 지연 표본 1건 (헤지 지연 = max(표본, 100ms))
+        gateway.complete(OpenAiUseCase.KEYWORDS, "키워드 추출", "{\"title\": \"스프링 부트\"}", 0.3);
+
+        long start = System.nanoTime();
+        String content = gateway.complete(OpenAiUseCase.KEYWORDS, "키워드 추출", "{\"title\": \"스프링 부트\"}", 0.3);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(content).contains("keywordFrequencies");
+        assertThat(elapsedMillis).isLessThan(STALL_MILLIS / 2);
+        assertThat(calls.get()).isEqualTo(3);
+
+        double maxPermits = OpenAiUseCase.KEYWORDS.getDefaultMaxConcurrent();
+        assertThat(eventually(() -> connectionManager.getTotalStats().getLeased() == 0
+                && bulkheadAvailable() == maxPermits
+                && hedgeExecutor.getActiveCount() == 0)).isTrue();
+        assertThat(circuitBreaker.state()).isEqualTo(GptCircuitBreaker.State.CLOSED);
+    }
+
+    private double bulkheadAvailable() {
+        return meterRegistry.get("openai.bulkhead.available").tag("use_case", "keywords").gauge().value();
+    }
+
+    /**
+     * 멈춘 요청이 끝나기(STALL_MILLIS)보다 훨씬 짧은 1초 안에 조건이 참이 되는지
+     */
+    private static boolean eventually(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return condition.getAsBoolean();
+    }
+}
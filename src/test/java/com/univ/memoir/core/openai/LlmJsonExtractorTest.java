@@ -0,0 +1,91 @@
+package com.univ.memoir.core.openai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class LlmJsonExtractorTest {
+
+    private final LlmJsonExtractor extractor = new LlmJsonExtractor(new ObjectMapper());
+
+    record Keyword(String keyword, int frequency) {
+    }
+
+    record Block(String title, List<List<Integer>> ranges) {
+    }
+
+    record Summary(String title, List<String> lines) {
+    }
+
+    @Test
+    void 코드블록_안의_배열을_읽는다() {
+        String content = """
+                ```json
+                [{"keyword": "Spring", "frequency": 3}, {"keyword": "JPA", "frequency": 1}]
+                ```
+                """;
+
+        assertThat(extractor.readArray(content, Keyword.class))
+                .containsExactly(new Keyword("Spring", 3), new Keyword("JPA", 1));
+    }
+
+    @Test
+    void 앞쪽_설명문과_뒤쪽_텍스트는_건너뛴다() throws IOException {
+        String content = "다음은 요약입니다 (참고용): {\"title\": \"하루\", \"lines\": [\"a\"]} 이상입니다. {\"title\": \"x\"}";
+
+        assertThat(extractor.readObject(content, Summary.class)).isEqualTo(new Summary("하루", List.of("a")));
+    }
+
+    @Test
+    void 잘린_배열은_완성된_원소까지만_돌려준다() {
+        String content = "[{\"keyword\": \"Spring\", \"frequency\": 3}, {\"keyword\": \"JPA\", \"freq";
+
+        assertThat(extractor.readArray(content, Keyword.class)).containsExactly(new Keyword("Spring", 3));
+    }
+
+    @Test
+    void 닫히지_않은_배열도_완성된_원소는_돌려준다() {
+        String content = "[{\"keyword\": \"Spring\", \"frequency\": 3},";
+
+        assertThat(extractor.readArray(content, Keyword.class)).containsExactly(new Keyword("Spring", 3));
+    }
+
+    @Test
+    void 이스케이프된_따옴표와_잘못된_이스케이프_제어문자를_허용한다() throws IOException {
+        String content = "{\"title\": \"그는 \\\"안녕\\\"이라고 했다 \\_ 끝\", \"lines\": [\"첫 줄\n둘째 줄\"]}";
+
+        Summary summary = extractor.readObject(content, Summary.class);
+
+        assertThat(summary.title()).isEqualTo("그는 \"안녕\"이라고 했다 _ 끝");
+        assertThat(summary.lines()).containsExactly("첫 줄\n둘째 줄");
+    }
+
+    @Test
+    void 중첩_배열과_괄호가_든_문자열을_원소_단위로_읽는다() {
+        String content = "[{\"title\": \"[오전] {회의}\", \"ranges\": [[1, 2], [3]]}, null, {\"title\": \"b\", \"ranges\": []},]";
+
+        assertThat(extractor.readArray(content, Block.class)).containsExactly(
+                new Block("[오전] {회의}", List.of(List.of(1, 2), List.of(3))),
+                new Block("b", List.of()));
+    }
+
+    @Test
+    void 모르는_필드는_무시한다() throws IOException {
+        String content = "{\"keyword\": \"Spring\", \"frequency\": 2, \"reason\": \"...\"}";
+
+        assertThat(extractor.readObject(content, Keyword.class)).isEqualTo(new Keyword("Spring", 2));
+    }
+
+    @Test
+    void 배열이_없으면_빈_목록_객체가_없으면_예외() {
+        assertThat(extractor.readArray("죄송합니다. 결과가 없습니다.", Keyword.class)).isEmpty();
+        assertThat(extractor.readArray(null, Keyword.class)).isEmpty();
+        assertThatThrownBy(() -> extractor.readObject("결과 없음", Keyword.class)).isInstanceOf(IOException.class);
+    }
+}
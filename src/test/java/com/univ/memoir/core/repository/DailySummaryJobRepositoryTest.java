@@ -0,0 +1,73 @@
+package com.univ.memoir.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.univ.memoir.core.domain.DailySummaryJob;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DailySummaryJobRepositoryTest {
+
+    private static final List<DailySummaryJob.Status> IN_PROGRESS =
+            List.of(DailySummaryJob.Status.PENDING, DailySummaryJob.Status.RUNNING);
+
+    @Autowired
+    private DailySummaryJobRepository jobRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 재시작한_서버의_작업과_heartbeat_가_멈춘_작업만_중단된_작업으로_찾는다() {
+        String mine = save(DailySummaryJob.Status.RUNNING, "node-a");
+        String otherLive = save(DailySummaryJob.Status.RUNNING, "node-b");
+        String otherStale = save(DailySummaryJob.Status.PENDING, "node-c");
+        String legacy = save(DailySummaryJob.Status.RUNNING, null);
+        save(DailySummaryJob.Status.SUCCEEDED, "node-a");
+        entityManager.getEntityManager()
+                .createQuery("update DailySummaryJob j set j.updatedAt = :old where j.id = :id")
+                .setParameter("old", LocalDateTime.now().minusMinutes(10))
+                .setParameter("id", otherStale)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<DailySummaryJob> interrupted = jobRepository.findInterrupted(
+                IN_PROGRESS, "node-a", LocalDateTime.now().minusMinutes(3));
+
+        assertThat(interrupted).extracting(DailySummaryJob::getId)
+                .containsExactlyInAnyOrder(mine, otherStale, legacy)
+                .doesNotContain(otherLive);
+    }
+
+    @Test
+    void heartbeat_는_진행_중인_작업의_updatedAt_만_갱신한다() {
+        String running = save(DailySummaryJob.Status.RUNNING, "node-a");
+        String done = save(DailySummaryJob.Status.SUCCEEDED, "node-a");
+        LocalDateTime later = LocalDateTime.now().plusMinutes(5).withNano(0);
+
+        int touched = jobRepository.touchAll(List.of(running, done), IN_PROGRESS, later);
+        entityManager.clear();
+
+        assertThat(touched).isEqualTo(1);
+        assertThat(jobRepository.findById(running).orElseThrow().getUpdatedAt()).isEqualTo(later);
+        assertThat(jobRepository.findById(done).orElseThrow().getUpdatedAt()).isBefore(later);
+    }
+
+    private String save(DailySummaryJob.Status status, String instanceId) {
+        String id = UUID.randomUUID().toString();
+        jobRepository.saveAndFlush(new DailySummaryJob(id, 1L, LocalDate.of(2025, 6, 2), status, null,
+                instanceId, LocalDateTime.now()));
+        return id;
+    }
+}
@@ -0,0 +1,73 @@
+package com.univ.memoir.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.univ.memoir.core.domain.DailySummary;
+import com.univ.memoir.core.domain.TimeAnalysisData;
+import com.univ.memoir.core.domain.User;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DailySummaryRepositoryTest {
+
+    @Autowired
+    private DailySummaryRepository dailySummaryRepository;
+
+    @Autowired
+    private TimeAnalysisDataRepository timeAnalysisDataRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .googleId("google-" + suffix)
+                .email(suffix + "@memoir.asia")
+                .name("memoir")
+                .build());
+        date = LocalDate.of(2025, 6, 2);
+    }
+
+    @Test
+    void 같은_날짜를_다시_저장하면_한_행의_내용만_교체된다() {
+        dailySummaryRepository.upsert(user.getId(), date, "[]", "[]", "[\"처음\"]", 10, "[]");
+        dailySummaryRepository.upsert(user.getId(), date, "[]", "[]", "[\"다시\"]", 20, "[]");
+        entityManager.clear();
+
+        DailySummary summary = dailySummaryRepository.findByUserIdAndDate(user.getId(), date).orElseThrow();
+
+        assertThat(dailySummaryRepository.findAllByUserIdAndDateBetween(user.getId(), date, date)).hasSize(1);
+        assertThat(summary.getSummaryTextJson()).isEqualTo("[\"다시\"]");
+        assertThat(summary.getTotalUsageMinutes()).isEqualTo(20);
+    }
+
+    @Test
+    void 시간_분석도_같은_날짜는_한_행으로_교체된다() {
+        timeAnalysisDataRepository.upsert(user.getId(), date, 10, "[]", "[]");
+        timeAnalysisDataRepository.upsert(user.getId(), date, 30, "[{}]", "[]");
+        entityManager.clear();
+
+        TimeAnalysisData data = timeAnalysisDataRepository.findByUserIdAndDate(user.getId(), date).orElseThrow();
+
+        assertThat(data.getTotalUsageMinutes()).isEqualTo(30);
+        assertThat(data.getCategorySummariesJson()).isEqualTo("[{}]");
+    }
+}
@@ -0,0 +1,64 @@
+package com.univ.memoir.core.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.univ.memoir.core.domain.PageCategoryCache;
+import com.univ.memoir.core.repository.PageCategoryCacheUpsertRepository.Entry;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PageCategoryCacheRepositoryTest {
+
+    @Autowired
+    private PageCategoryCacheRepository pageCategoryCacheRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void 같은_카테고리면_samples가_오르고_다르면_교체_후_1부터_센다() {
+        String domainKey = "domain:" + UUID.randomUUID() + ".com";
+
+        pageCategoryCacheRepository.upsertAll(List.of(
+                new Entry(domainKey, PageCategoryCache.KeyType.DOMAIN, "학습"),
+                new Entry(domainKey, PageCategoryCache.KeyType.DOMAIN, "학습")));
+        PageCategoryCache twice = find(domainKey);
+
+        pageCategoryCacheRepository.upsertAll(List.of(
+                new Entry(domainKey, PageCategoryCache.KeyType.DOMAIN, "업무")));
+        PageCategoryCache replaced = find(domainKey);
+
+        assertThat(twice.getCategory()).isEqualTo("학습");
+        assertThat(twice.getSamples()).isEqualTo(2);
+        assertThat(replaced.getCategory()).isEqualTo("업무");
+        assertThat(replaced.getSamples()).isEqualTo(1);
+        assertThat(pageCategoryCacheRepository.findAllByCacheKeyIn(List.of(domainKey))).hasSize(1);
+    }
+
+    @Test
+    void 기준_시각보다_오래된_행만_삭제한다() {
+        String urlKey = "url:" + UUID.randomUUID() + ".com/page";
+        pageCategoryCacheRepository.upsertAll(List.of(new Entry(urlKey, PageCategoryCache.KeyType.URL, "학습")));
+
+        assertThat(pageCategoryCacheRepository.deleteAllUpdatedBefore(LocalDateTime.now().minusDays(1))).isZero();
+        assertThat(pageCategoryCacheRepository.deleteAllUpdatedBefore(LocalDateTime.now().plusSeconds(1)))
+                .isEqualTo(1);
+        assertThat(pageCategoryCacheRepository.findAllByCacheKeyIn(List.of(urlKey))).isEmpty();
+    }
+
+    private PageCategoryCache find(String cacheKey) {
+        // upsert 는 JDBC 로 바로 쓰므로 영속성 컨텍스트에 남은 이전 값을 비운다.
+        entityManager.clear();
+        return pageCategoryCacheRepository.findAllByCacheKeyIn(List.of(cacheKey)).get(0);
+    }
+}
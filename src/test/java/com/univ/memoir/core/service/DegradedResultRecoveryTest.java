@@ -0,0 +1,70 @@
+package com.univ.memoir.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DegradedResultRecoveryTest {
+
+    // 복구 시 넘긴 작업을 바로 실행하지 않고 모아 두는 실행기 - 꺼낸 뒤 실행 전 사이를 재현한다.
+    private final List<Runnable> queued = new ArrayList<>();
+    private final DegradedResultRecovery recovery =
+            new DegradedResultRecovery(queued::add, new SimpleMeterRegistry(), 10);
+
+    @Test
+    void 서킷이_닫히면_대기_중인_작업을_실행한다() {
+        AtomicInteger runs = new AtomicInteger();
+        recovery.register("time:1:2025-06-02", runs::incrementAndGet);
+
+        recovery.onCircuitClosed();
+        queued.forEach(Runnable::run);
+
+        assertThat(runs).hasValue(1);
+        assertThat(recovery.pendingCount()).isZero();
+    }
+
+    @Test
+    void 취소된_작업은_실행하지_않는다() {
+        AtomicInteger runs = new AtomicInteger();
+        recovery.register("time:1:2025-06-02", runs::incrementAndGet);
+
+        recovery.cancel("time:1:2025-06-02");
+        recovery.onCircuitClosed();
+        queued.forEach(Runnable::run);
+
+        assertThat(runs).hasValue(0);
+        assertThat(queued).isEmpty();
+    }
+
+    @Test
+    void 실행기로_넘긴_뒤_취소되면_실행하지_않는다() {
+        AtomicInteger runs = new AtomicInteger();
+        recovery.register("daily:1:2025-06-02", runs::incrementAndGet);
+        recovery.register("daily:2:2025-06-02", runs::incrementAndGet);
+
+        recovery.onCircuitClosed();
+        recovery.cancel("daily:1:2025-06-02");
+        queued.forEach(Runnable::run);
+
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void 실행기로_넘긴_뒤_다시_등록되면_이전_작업은_건너뛰고_새_작업이_대기한다() {
+        List<String> runs = new ArrayList<>();
+        recovery.register("daily:1:2025-06-02", () -> runs.add("old"));
+
+        recovery.onCircuitClosed();
+        recovery.register("daily:1:2025-06-02", () -> runs.add("new"));
+        queued.forEach(Runnable::run);
+
+        assertThat(runs).isEmpty();
+        assertThat(recovery.pendingCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,66 @@
+package com.univ.memoir.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class KeywordMemoryCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 2);
+
+    private final KeywordMemoryCache cache =
+            new KeywordMemoryCache(new SimpleMeterRegistry(), 1024 * 1024, Duration.ofHours(1));
+
+    @Test
+    void 분석_결과와_상위_키워드를_사용자_날짜별로_돌려준다() {
+        cache.putResponse(1L, TODAY, response(List.of(new KeywordFrequencyDto("Spring", 3))));
+        cache.putTopKeywords(1L, TODAY, List.of(new KeywordFrequencyDto("Spring", 3)));
+
+        assertThat(cache.getResponse(1L, TODAY).orElseThrow().getKeywordFrequencies())
+                .extracting(KeywordFrequencyDto::getKeyword)
+                .containsExactly("Spring");
+        assertThat(cache.getTopKeywords(1L, TODAY)).isPresent();
+        assertThat(cache.getResponse(2L, TODAY)).isEmpty();
+        assertThat(cache.getResponse(1L, TODAY.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    void degraded_결과는_저장하지_않는다() {
+        KeywordResponseDto degraded = response(List.of(new KeywordFrequencyDto("Spring", 3)));
+        degraded.setDegraded(true);
+
+        cache.putResponse(1L, TODAY, degraded);
+
+        assertThat(cache.getResponse(1L, TODAY)).isEmpty();
+    }
+
+    @Test
+    void 상위_키워드만_비우면_분석_결과는_남는다() {
+        cache.putResponse(1L, TODAY, response(List.of(new KeywordFrequencyDto("Spring", 3))));
+        cache.putTopKeywords(1L, TODAY, List.of(new KeywordFrequencyDto("Spring", 3)));
+
+        cache.invalidateTopKeywords(1L, TODAY);
+
+        assertThat(cache.getTopKeywords(1L, TODAY)).isEmpty();
+        assertThat(cache.getResponse(1L, TODAY)).isPresent();
+
+        cache.invalidateUser(1L, TODAY);
+
+        assertThat(cache.getResponse(1L, TODAY)).isEmpty();
+    }
+
+    private static KeywordResponseDto response(List<KeywordFrequencyDto> keywords) {
+        KeywordResponseDto response = new KeywordResponseDto();
+        response.setKeywordFrequencies(keywords);
+        return response;
+    }
+}
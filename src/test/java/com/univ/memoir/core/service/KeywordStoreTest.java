@@ -0,0 +1,239 @@
+package com.univ.memoir.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.univ.memoir.api.dto.res.KeywordFrequencyDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordResponseDto;
+import com.univ.memoir.api.dto.res.keyword.KeywordTrendResponse;
+import com.univ.memoir.config.ExecutorConfig;
+import com.univ.memoir.config.jwt.AuthUser;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.domain.KeywordMonthlyAggregate;
+import com.univ.memoir.core.domain.KeywordTrendGranularity;
+import com.univ.memoir.core.domain.KeywordWeeklyAggregate;
+import com.univ.memoir.core.repository.KeywordDailyAggregateRepository;
+import com.univ.memoir.core.repository.KeywordMonthlyAggregateRepository;
+import com.univ.memoir.core.repository.KeywordWeeklyAggregateRepository;
+import com.univ.memoir.core.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:memoir;MODE=MySQL;NON_KEYWORDS=USER")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ExecutorConfig.class, KeywordStore.class, KeywordAsyncWriter.class, KeywordTrendService.class,
+        KeywordRollupBackfill.class,
+        KeywordStoreTest.MetricsConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 비동기 저장은 다른 스레드에서 커밋됨
+class KeywordStoreTest {
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private KeywordStore keywordStore;
+
+    @Autowired
+    private KeywordAsyncWriter keywordAsyncWriter;
+
+    @Autowired
+    private KeywordTrendService keywordTrendService;
+
+    @Autowired
+    private KeywordRollupBackfill keywordRollupBackfill;
+
+    @Autowired
+    private KeywordDailyAggregateRepository keywordDailyAggregateRepository;
+
+    @Autowired
+    private KeywordWeeklyAggregateRepository keywordWeeklyAggregateRepository;
+
+    @Autowired
+    private KeywordMonthlyAggregateRepository keywordMonthlyAggregateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("keywordTaskExecutor")
+    private ThreadPoolTaskExecutor keywordTaskExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private LocalDate today;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        user = userRepository.save(User.builder()
+                .googleId("google-" + suffix)
+                .email(suffix + "@memoir.asia")
+                .name("memoir")
+                .build());
+        today = LocalDate.now();
+    }
+
+    @Test
+    void 비동기_저장은_키워드_실행기에서_실행되고_저장_직후_조회에_반영된다() throws Exception {
+        keywordDailyAggregateRepository.upsertAll(user.getId(), today, Map.of("Spring", 3));
+        assertThat(keywordStore.findTopKeywords(user.getId(), today))
+                .extracting(KeywordFrequencyDto::getKeyword)
+                .containsExactly("Spring");
+        long submitted = keywordTaskExecutor.getThreadPoolExecutor().getTaskCount();
+
+        KeywordResponseDto result = new KeywordResponseDto();
+        result.setKeywordFrequencies(List.of(new KeywordFrequencyDto("JPA", 5)));
+        keywordAsyncWriter.save(user.getId(), today, result).get(5, TimeUnit.SECONDS);
+
+        assertThat(keywordTaskExecutor.getThreadPoolExecutor().getTaskCount()).isEqualTo(submitted + 1);
+        assertThat(keywordStore.findTopKeywords(user.getId(), today))
+                .extracting(KeywordFrequencyDto::getKeyword)
+                .containsExactly("JPA", "Spring");
+        assertThat(keywordStore.findDaily(user.getId(), today).orElseThrow().getKeywordFrequencies())
+                .hasSize(2);
+    }
+
+    @Test
+    void 같은_키워드는_한_행에_빈도가_누적되고_상위_9개만_빈도순으로_읽는다() {
+        Map<String, Integer> first = new HashMap<>();
+        for (int i = 1; i <= 12; i++) {
+            first.put("keyword-" + i, i);
+        }
+        keywordDailyAggregateRepository.upsertAll(user.getId(), today, first);
+        keywordDailyAggregateRepository.upsertAll(user.getId(), today, Map.of("keyword-1", 20, " keyword-2 ", 1));
+
+        List<KeywordFrequencyDto> top = keywordStore.findTopKeywords(user.getId(), today);
+
+        assertThat(keywordDailyAggregateRepository.countByUserIdAndDate(user.getId(), today)).isEqualTo(12);
+        assertThat(top).hasSize(9);
+        assertThat(top.get(0).getKeyword()).isEqualTo("keyword-1");
+        assertThat(top.get(0).getFrequency()).isEqualTo(21);
+        assertThat(top).extracting(KeywordFrequencyDto::getFrequency).isSortedAccordingTo((a, b) -> b - a);
+        assertThat(top).extracting(KeywordFrequencyDto::getKeyword).doesNotContain("keyword-2", "keyword-3");
+    }
+
+    @Test
+    void 대소문자만_다른_키워드는_먼저_들어온_표기로_합친다() {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        frequencies.put("React", 2);
+        frequencies.put("react", 3);
+        frequencies.put("REACT ", 1);
+
+        keywordDailyAggregateRepository.upsertAll(user.getId(), today, frequencies);
+
+        assertThat(keywordStore.findTopKeywords(user.getId(), today))
+                .extracting(KeywordFrequencyDto::getKeyword, KeywordFrequencyDto::getFrequency)
+                .containsExactly(tuple("React", 6));
+    }
+
+    @Test
+    void 저장과_삭제는_주별_월별_롤업에도_반영된다() {
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        LocalDate tuesday = monday.plusDays(1);
+        keywordDailyAggregateRepository.upsertAll(user.getId(), monday, Map.of("Spring", 3, "JPA", 1));
+        keywordDailyAggregateRepository.upsertAll(user.getId(), tuesday, Map.of("Spring", 2));
+
+        assertThat(keywordWeeklyAggregateRepository.findAllByUserIdAndPeriodStart(user.getId(), monday))
+                .extracting(KeywordWeeklyAggregate::getKeyword, KeywordWeeklyAggregate::getFrequency)
+                .containsExactlyInAnyOrder(tuple("Spring", 5), tuple("JPA", 1));
+        assertThat(keywordMonthlyAggregateRepository.findTrend(user.getId(),
+                KeywordTrendGranularity.MONTHLY.periodStart(monday), KeywordTrendGranularity.MONTHLY.periodStart(monday)))
+                .hasSize(2);
+
+        keywordStore.deleteDaily(user.getId(), monday);
+
+        assertThat(keywordWeeklyAggregateRepository.findAllByUserIdAndPeriodStart(user.getId(), monday))
+                .extracting(KeywordWeeklyAggregate::getKeyword, KeywordWeeklyAggregate::getFrequency)
+                .containsExactly(tuple("Spring", 2));
+        assertThat(keywordMonthlyAggregateRepository.findAllByUserIdAndPeriodStart(user.getId(), monday.withDayOfMonth(1)))
+                .extracting(KeywordMonthlyAggregate::getKeyword, KeywordMonthlyAggregate::getFrequency)
+                .containsExactly(tuple("Spring", 2));
+    }
+
+    @Test
+    void 추이는_기간마다_상위_9개만_읽고_구간_합계는_SQL에서_합산한다() {
+        LocalDate firstWeek = LocalDate.of(2025, 6, 2);
+        LocalDate secondWeek = firstWeek.plusWeeks(1);
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (int i = 1; i <= 12; i++) {
+            frequencies.put("keyword-" + i, i);
+        }
+        keywordDailyAggregateRepository.upsertAll(user.getId(), firstWeek, frequencies);
+        keywordDailyAggregateRepository.upsertAll(user.getId(), secondWeek.plusDays(2), frequencies);
+        keywordDailyAggregateRepository.upsertAll(user.getId(), secondWeek, Map.of("keyword-1", 30));
+        AuthUser authUser = new AuthUser(user.getId(), user.getEmail(), "N", 0, Instant.now());
+
+        KeywordTrendResponse trend = keywordTrendService.getTrend(authUser, firstWeek, secondWeek, "weekly");
+
+        assertThat(trend.periods()).hasSize(2);
+        assertThat(trend.periods().get(0).keywords()).hasSize(9)
+                .extracting(KeywordFrequencyDto::getKeyword)
+                .startsWith("keyword-12", "keyword-11")
+                .doesNotContain("keyword-1");
+        assertThat(trend.periods().get(1).keywords().get(0).getKeyword()).isEqualTo("keyword-1");
+        assertThat(trend.topKeywords()).hasSize(9)
+                .extracting(KeywordFrequencyDto::getKeyword, KeywordFrequencyDto::getFrequency)
+                .startsWith(tuple("keyword-1", 32), tuple("keyword-12", 24));
+    }
+
+    @Test
+    void 롤업이_비어_있으면_시작_시_일별_집계로_채운다() {
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        keywordDailyAggregateRepository.upsertAll(user.getId(), monday, Map.of("React", 2, "JPA", 1));
+        keywordDailyAggregateRepository.upsertAll(user.getId(), monday.plusDays(1), Map.of("react", 3));
+        // 롤업 도입 전 상태
+        keywordWeeklyAggregateRepository.deleteAllInBatch();
+        keywordMonthlyAggregateRepository.deleteAllInBatch();
+
+        keywordRollupBackfill.backfillIfEmpty();
+        keywordRollupBackfill.backfillIfEmpty();
+
+        assertThat(keywordWeeklyAggregateRepository.findAllByUserIdAndPeriodStart(user.getId(), monday))
+                .extracting(KeywordWeeklyAggregate::getKeyword, KeywordWeeklyAggregate::getFrequency)
+                .containsExactlyInAnyOrder(tuple("React", 5), tuple("JPA", 1));
+
+        keywordStore.deleteDaily(user.getId(), monday);
+
+        assertThat(keywordMonthlyAggregateRepository.findAllByUserIdAndPeriodStart(user.getId(), monday.withDayOfMonth(1)))
+                .extracting(KeywordMonthlyAggregate::getKeyword, KeywordMonthlyAggregate::getFrequency)
+                .containsExactly(tuple("React", 3));
+    }
+
+    @Test
+    void 키워드_실행기는_큐_길이와_거절_지표를_남긴다() {
+        assertThat(meterRegistry.get("executor.queue.depth").tag("name", "keywordTaskExecutor").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "keywordTaskExecutor").counter().count())
+                .isZero();
+    }
+}
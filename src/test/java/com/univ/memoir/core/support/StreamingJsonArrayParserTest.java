@@ -0,0 +1,86 @@
+package com.univ.memoir.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+class StreamingJsonArrayParserTest {
+
+    private final List<String> emitted = new ArrayList<>();
+
+    private StreamingJsonArrayParser parser(String... fields) {
+        return new StreamingJsonArrayParser(Set.of(fields), (field, json) -> emitted.add(field + "=" + json));
+    }
+
+    /**
+     * 한 글자씩 나눠 넣어 조각 경계가 어디든 결과가 같은지 확인
+     */
+    private void feedByChar(StreamingJsonArrayParser parser, String content) {
+        for (int i = 0; i < content.length(); i++) {
+            parser.feed(content.substring(i, i + 1));
+        }
+    }
+
+    @Test
+    void 코드블록_표시를_건너뛰고_원소가_완성될_때마다_전달한다() {
+        StreamingJsonArrayParser parser = parser("summaryText");
+
+        feedByChar(parser, "```json\n{\"summaryText\": [\"a\", \"b\"]}\n```");
+
+        assertThat(emitted).containsExactly("summaryText=\"a\"", "summaryText=\"b\"");
+    }
+
+    @Test
+    void 추적하는_필드의_문자열_안_이스케이프된_따옴표와_괄호를_원소로_오인하지_않는다() {
+        StreamingJsonArrayParser parser = parser("summaryText");
+
+        feedByChar(parser, "{\"summaryText\": [\"그는 \\\"안녕]\\\"이라고\", \"{x}\\\\\"]}");
+
+        assertThat(emitted).containsExactly(
+                "summaryText=\"그는 \\\"안녕]\\\"이라고\"",
+                "summaryText=\"{x}\\\\\"");
+    }
+
+    @Test
+    void 중첩_배열과_객체_원소는_통째로_전달한다() {
+        StreamingJsonArrayParser parser = parser("blocks", "topKeywords");
+
+        parser.feed("{\"blocks\": [[1, [2]], [3]], \"topKeywords\": [{\"keyword\": \"a]\", \"tags\": [\"x\"]}]}");
+
+        assertThat(emitted).containsExactly(
+                "blocks=[1, [2]]",
+                "blocks=[3]",
+                "topKeywords={\"keyword\": \"a]\", \"tags\": [\"x\"]}");
+    }
+
+    @Test
+    void 추적하지_않는_필드와_이스케이프된_키는_무시한다() {
+        StreamingJsonArrayParser parser = parser("summaryText");
+
+        feedByChar(parser, "{\"title\": \"[무시]\", \"summary\\\"Text\": [\"x\"], \"other\": [\"y\"], \"summaryText\": [\"z\"]}");
+
+        assertThat(emitted).containsExactly("summaryText=\"z\"");
+    }
+
+    @Test
+    void 잘린_응답은_완성된_원소까지만_전달한다() {
+        StreamingJsonArrayParser parser = parser("summaryText");
+
+        feedByChar(parser, "{\"summaryText\": [\"a\", \"b는 아직");
+
+        assertThat(emitted).containsExactly("summaryText=\"a\"");
+    }
+
+    @Test
+    void 최상위_객체가_닫힌_뒤의_텍스트는_읽지_않는다() {
+        StreamingJsonArrayParser parser = parser("summaryText");
+
+        parser.feed("{\"summaryText\": [\"a\"]}\n```\n{\"summaryText\": [\"b\"]}");
+
+        assertThat(emitted).containsExactly("summaryText=\"a\"");
+    }
+}
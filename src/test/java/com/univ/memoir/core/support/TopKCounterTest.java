@@ -0,0 +1,84 @@
+package com.univ.memoir.core.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TopKCounterTest {
+
+    @Test
+    void 같은_키의_빈도는_누적된다() {
+        TopKCounter counter = new TopKCounter();
+        counter.add("Spring", 3);
+        counter.add("JPA", 1);
+        counter.add("Spring", 2);
+
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(counter.count("Spring")).isEqualTo(5);
+        assertThat(counter.count("JPA")).isEqualTo(1);
+        assertThat(counter.count("React")).isZero();
+    }
+
+    @Test
+    void 초기_크기를_넘어_늘어나도_모든_키를_다시_찾는다() {
+        TopKCounter counter = new TopKCounter(4);
+        for (int i = 0; i < 1000; i++) {
+            counter.add("keyword-" + i, i);
+        }
+        // hashCode 가 같은 키 ("Aa" / "BB") 도 구분한다.
+        counter.add("Aa", 1);
+        counter.add("BB", 2);
+        counter.add("keyword-10", 5);
+
+        assertThat(counter.size()).isEqualTo(1002);
+        assertThat(counter.count("keyword-0")).isZero();
+        assertThat(counter.count("keyword-10")).isEqualTo(15);
+        assertThat(counter.count("keyword-999")).isEqualTo(999);
+        assertThat(counter.count("Aa")).isEqualTo(1);
+        assertThat(counter.count("BB")).isEqualTo(2);
+        assertThat(counter.top(3, (key, count) -> key))
+                .containsExactly("keyword-999", "keyword-998", "keyword-997");
+    }
+
+    @Test
+    void k_가_키_수보다_크면_전체를_빈도순으로_돌려준다() {
+        TopKCounter counter = new TopKCounter();
+        counter.add("a", 1);
+        counter.add("b", 3);
+        counter.add("c", 2);
+
+        assertThat(counter.top(10, (key, count) -> key + "=" + count)).containsExactly("b=3", "c=2", "a=1");
+        assertThat(counter.top(0, (key, count) -> key)).isEmpty();
+        assertThat(new TopKCounter().top(5, (key, count) -> key)).isEmpty();
+    }
+
+    @Test
+    void 빈도가_같으면_먼저_등장한_키가_앞선다() {
+        TopKCounter counter = new TopKCounter();
+        for (String key : List.of("d", "b", "e", "a", "c")) {
+            counter.add(key, 1);
+        }
+        counter.add("z", 2);
+
+        assertThat(counter.top(4, (key, count) -> key)).containsExactly("z", "d", "b", "e");
+    }
+
+    @Test
+    void clear_후에는_이전_키_없이_다시_쓸_수_있다() {
+        TopKCounter counter = new TopKCounter(4);
+        for (int i = 0; i < 100; i++) {
+            counter.add("old-" + i, 1);
+        }
+
+        counter.clear();
+        counter.add("new", 2);
+        counter.add("old-1", 1);
+
+        assertThat(counter.size()).isEqualTo(2);
+        assertThat(counter.count("old-2")).isZero();
+        assertThat(counter.count("old-1")).isEqualTo(1);
+        assertThat(counter.top(5, (key, count) -> key)).containsExactly("new", "old-1");
+    }
+}
@@ -0,0 +1,194 @@
+package com.univ.memoir.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.univ.memoir.config.jwt.JwtProvider;
+import com.univ.memoir.core.domain.User;
+import com.univ.memoir.core.repository.UserRepository;
+import com.univ.memoir.support.openai.OpenAiStubServer;
+
+/**
+ * GPT 호출이 있는 API 부하 테스트 - 실제 OpenAI 대신 OpenAiStubServer 사용
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다. 설정은 시스템 프로퍼티로 바꿀 수 있다.
+ * (예: ./gradlew loadTest -Dload.rps=20 -Dload.duration=PT30S -Dload.stub.median-ms=1200)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:memoir-load;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+        "spring.security.jwt.secret=memoir-load-test-secret-key-for-hs256",
+        "spring.security.oauth2.client.registration.google.client-id=load-test",
+        "spring.security.oauth2.client.registration.google.client-secret=load-test",
+        "oauth2.redirect-uri.githubpages=http://localhost/",
+        "openai.api.key=stub",
+        "openai.model=stub-model",
+        "openai.uri=" + OpenAiStubServer.COMPLETIONS_PATH
+})
+class ApiLoadTest {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final int RPS = Integer.getInteger("load.rps", 10);
+    private static final Duration DURATION = Duration.parse(System.getProperty("load.duration", "PT10S"));
+    private static final Duration TIMEOUT = Duration.parse(System.getProperty("load.timeout", "PT60S"));
+    private static final int USERS = Integer.getInteger("load.users", 10);
+    private static final int PAGES = Integer.getInteger("load.pages", 60);
+    private static final double MAX_FAILURE_RATE = Double.parseDouble(System.getProperty("load.max-failure-rate", "0.2"));
+
+    private static final String[][] SITES = {
+            {"https://github.com/memoir/backend/pull/%d", "Pull request #%d · memoir/backend"},
+            {"https://stackoverflow.com/questions/%d/spring-boot-sse", "Spring Boot SSE 질문 %d - Stack Overflow"},
+            {"https://www.youtube.com/watch?v=video%d", "플레이리스트 %d편 - YouTube"},
+            {"https://n.news.naver.com/article/%d", "IT 뉴스 %d : 네이버 뉴스"},
+            {"https://www.coupang.com/vp/products/%d", "쿠팡! | 키보드 %d"},
+            {"https://www.notion.so/memoir/Sprint-%d", "스프린트 %d 회의록 | Notion"},
+    };
+
+    // 컨텍스트가 openai.api.base-url 을 읽기 전에 떠 있어야 하므로 클래스 로딩 시 시작
+    private static final OpenAiStubServer stub = startStub();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final LoadGenerator generator = new LoadGenerator();
+    private final List<String> tokens = new ArrayList<>();
+
+    private static OpenAiStubServer startStub() {
+        try {
+            return OpenAiStubServer.start(new OpenAiStubServer.Config(
+                    OpenAiStubServer.LatencyDistribution.logNormal(
+                            Long.getLong("load.stub.median-ms", 800),
+                            Double.parseDouble(System.getProperty("load.stub.sigma", "0.5"))),
+                    Double.parseDouble(System.getProperty("load.stub.error-rate", "0.01")),
+                    Double.parseDouble(System.getProperty("load.stub.malformed-rate", "0.01")),
+                    16));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.close();
+    }
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", () -> stub.baseUrl());
+    }
+
+    @BeforeEach
+    void setUpUsers() {
+        for (int i = 0; i < USERS; i++) {
+            String suffix = UUID.randomUUID().toString();
+            User user = userRepository.save(User.builder()
+                    .googleId("load-" + suffix)
+                    .email(suffix + "@memoir.asia")
+                    .name("load-" + i)
+                    .build());
+            tokens.add(jwtProvider.createAccessToken(user));
+        }
+    }
+
+    @Test
+    void GPT_연동_API_부하_측정() throws Exception {
+        LoadGenerator.LoadReport time = generator.run("POST /api/time", RPS, DURATION, TIMEOUT,
+                n -> post(n, "/api/time", timeAnalysisBody(n)));
+        LoadGenerator.LoadReport daily = generator.run("POST /api/daily", RPS, DURATION, TIMEOUT,
+                n -> post(n, "/api/daily", timeAnalysisBody(n)));
+        LoadGenerator.LoadReport keywords = generator.run("POST /api/keywords/analyze", RPS, DURATION, TIMEOUT,
+                n -> post(n, "/api/keywords/analyze", keywordBody(n)));
+        LoadGenerator.LoadReport monthly = generator.run("GET /api/monthly/{date}", RPS, DURATION, TIMEOUT,
+                n -> request(n, "/api/monthly/" + YearMonth.now(KST_ZONE)).GET().build());
+
+        System.out.printf("%n[load] stub requests=%d errors=%d malformed=%d%n%s",
+                stub.requestCount(), stub.errorCount(), stub.malformedCount(),
+                LoadGenerator.table(time, daily, keywords, monthly));
+
+        for (LoadGenerator.LoadReport report : List.of(time, daily, keywords, monthly)) {
+            assertThat(report.failureRate()).as(report.name()).isLessThanOrEqualTo(MAX_FAILURE_RATE);
+        }
+    }
+
+    private HttpRequest post(long n, String path, Object body) {
+        try {
+            return request(n, path)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(long n, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(TIMEOUT)
+                .header("Authorization", "Bearer " + tokens.get((int) (n % tokens.size())));
+    }
+
+    /**
+     * 요청마다 일부 페이지가 바뀌도록 만든 방문 기록 (캐시 적중과 미스가 섞이게)
+     */
+    private List<Map<String, Object>> pages(long n, boolean forTime) {
+        long dayStart = LocalDate.now(KST_ZONE).atStartOfDay(KST_ZONE).toInstant().toEpochMilli();
+        List<Map<String, Object>> pages = new ArrayList<>(PAGES);
+        for (int i = 0; i < PAGES; i++) {
+            String[] site = SITES[i % SITES.length];
+            long id = i % 3 == 0 ? n * PAGES + i : i;
+            Map<String, Object> page = new LinkedHashMap<>();
+            page.put("title", site[1].formatted(id));
+            page.put("url", site[0].formatted(id));
+            page.put("visitCount", 1 + i % 3);
+            if (forTime) {
+                page.put("startTimestamp", dayStart + i * 10 * 60_000L);
+                page.put("durationSeconds", 30 + i % 300);
+            } else {
+                page.put("duration", 30 + i % 300);
+            }
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private Map<String, Object> timeAnalysisBody(long n) {
+        return Map.of("date", LocalDate.now(KST_ZONE).toString(), "visitedPages", pages(n, true));
+    }
+
+    private Map<String, Object> keywordBody(long n) {
+        return Map.of("visitedPages", pages(n, false));
+    }
+}
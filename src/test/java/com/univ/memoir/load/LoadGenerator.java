@@ -0,0 +1,109 @@
+package com.univ.memoir.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 목표 RPS 로 요청을 보내는 개방형(open-loop) 부하 생성기
+ * - 응답을 기다리지 않고 일정 간격으로 요청을 시작하므로, 서버가 느려져도 요청률이 줄지 않는다.
+ * - 지연은 예정 시각부터 측정하여 coordinated omission 을 피한다.
+ */
+class LoadGenerator {
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * requestFactory 는 요청 번호로 요청을 만든다.
+     */
+    LoadReport run(String name, int targetRps, Duration duration, Duration timeout,
+                   LongFunction<HttpRequest> requestFactory) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / targetRps;
+        long total = duration.toSeconds() * targetRps;
+
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong failures = new AtomicLong();
+        List<CompletableFuture<?>> futures = new ArrayList<>((int) total);
+
+        long start = System.nanoTime();
+        for (long i = 0; i < total; i++) {
+            long scheduled = start + i * intervalNanos;
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                sleepNanos(wait);
+            }
+
+            HttpRequest request = requestFactory.apply(i);
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .whenComplete((response, error) -> {
+                        latencies.add(System.nanoTime() - scheduled);
+                        if (error != null || response.statusCode() >= 400) {
+                            failures.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> null)
+                .join();
+        long elapsed = System.nanoTime() - start;
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new LoadReport(name, targetRps, total, failures.get(),
+                total * 1e9 / elapsed,
+                percentileMillis(sorted, 0.50), percentileMillis(sorted, 0.95), percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+
+    private static void sleepNanos(long nanos) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record LoadReport(String name, int targetRps, long requests, long failures, double throughput,
+                      double p50, double p95, double p99, double max) {
+
+        static String header() {
+            return String.format("%-22s %6s %8s %8s %10s %9s %9s %9s %9s",
+                    "endpoint", "rps", "requests", "failures", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %6d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f",
+                    name, targetRps, requests, failures, throughput, p50, p95, p99, max);
+        }
+
+        double failureRate() {
+            return requests == 0 ? 0 : (double) failures / requests;
+        }
+    }
+
+    static String table(LoadReport... reports) {
+        StringBuilder sb = new StringBuilder(LoadReport.header()).append('\n');
+        Arrays.stream(reports).forEach(r -> sb.append(r).append('\n'));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,286 @@
+package com.univ.memoir.support.openai;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 부하 테스트용 OpenAI 호환 스텁 (/v1/chat/completions)
+ * - 응답 지연은 LatencyDistribution 으로, 오류(500/429)와 깨진 JSON 응답은 비율로 설정
+ * - 프롬프트 종류(카테고리 분류 / 키워드 / 시간대별 요약 / 일일 요약)를 구분해 입력에서 결정적으로 만든 응답을 돌려준다.
+ * - "stream": true 요청은 SSE chunk 로 나누어 보낸다.
+ */
+public class OpenAiStubServer implements AutoCloseable {
+
+    public static final String COMPLETIONS_PATH = "/v1/chat/completions";
+
+    private static final char[] CATEGORY_CODES = {'S', 'N', 'C', 'P', 'W'};
+    private static final Pattern TITLE_FIELD = Pattern.compile("\"title\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final Pattern SUMMARY_TITLE = Pattern.compile("제목: (.*?), 카테고리:");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Config config;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong malformed = new AtomicLong();
+
+    private OpenAiStubServer(Config config) throws IOException {
+        this.config = config;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext(COMPLETIONS_PATH, this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public static OpenAiStubServer start(Config config) throws IOException {
+        OpenAiStubServer stub = new OpenAiStubServer(config);
+        stub.server.start();
+        return stub;
+    }
+
+    /**
+     * openai.api.base-url 로 쓸 주소 (openai.uri 는 COMPLETIONS_PATH)
+     */
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long errorCount() {
+        return errors.get();
+    }
+
+    public long malformedCount() {
+        return malformed.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requests.incrementAndGet();
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+            sleep(config.latency().sampleMillis());
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (random.nextDouble() < config.errorRate()) {
+                errors.incrementAndGet();
+                int status = random.nextBoolean() ? 500 : 429;
+                write(exchange, status, "application/json", "{\"error\":{\"message\":\"stub error\"}}");
+                return;
+            }
+
+            String system = message(request, "system");
+            String user = message(request, "user");
+            String content = respond(system, user);
+            if (random.nextDouble() < config.malformedRate()) {
+                malformed.incrementAndGet();
+                content = content.substring(0, content.length() / 2);
+            }
+
+            int promptTokens = (system.length() + user.length()) / 3;
+            int completionTokens = content.length() / 3;
+            if (request.path("stream").asBoolean(false)) {
+                writeStream(exchange, content, promptTokens, completionTokens);
+            } else {
+                Map<String, Object> body = Map.of(
+                        "choices", List.of(Map.of("index", 0, "message", Map.of("role", "assistant", "content", content))),
+                        "usage", Map.of("prompt_tokens", promptTokens, "completion_tokens", completionTokens));
+                write(exchange, 200, "application/json", objectMapper.writeValueAsString(body));
+            }
+        }
+    }
+
+    // ===== 결정적 응답 =====
+
+    private String respond(String system, String user) throws IOException {
+        if (system.contains("분류")) {
+            return categorization(user);
+        }
+        if (system.contains("키워드")) {
+            return keywords(user);
+        }
+        if (user.contains("\"keywords\"")) {
+            return blockSummary(user);
+        }
+        return dailySummary(user);
+    }
+
+    /**
+     * "번호|주소|제목" 줄마다 주소 해시로 고른 코드를 "번호 코드" 로 응답
+     */
+    private String categorization(String user) {
+        StringBuilder sb = new StringBuilder();
+        for (String line : user.split("\n")) {
+            int bar = line.indexOf('|');
+            if (bar <= 0 || !line.substring(0, bar).chars().allMatch(Character::isDigit)) {
+                continue;
+            }
+            int next = line.indexOf('|', bar + 1);
+            String address = next < 0 ? line.substring(bar + 1) : line.substring(bar + 1, next);
+            String host = address.contains("/") ? address.substring(0, address.indexOf('/')) : address;
+            sb.append(line, 0, bar).append(' ')
+                    .append(CATEGORY_CODES[Math.floorMod(host.hashCode(), CATEGORY_CODES.length)]).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private String keywords(String user) throws IOException {
+        Map<String, Integer> counts = countWords(TITLE_FIELD.matcher(user));
+        List<Map<String, Object>> frequencies = new ArrayList<>();
+        counts.entrySet().stream().limit(10)
+                .forEach(e -> frequencies.add(Map.of("keyword", e.getKey(), "frequency", e.getValue())));
+        return "```json\n" + objectMapper.writeValueAsString(Map.of("keywordFrequencies", frequencies)) + "\n```";
+    }
+
+    private String blockSummary(String user) throws IOException {
+        Map<String, Integer> counts = countWords(SUMMARY_TITLE.matcher(user));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("keywords", top(counts, 5));
+        body.put("timeline", List.of(Map.of("time", "09:00", "description", "스텁 활동")));
+        body.put("summary", "방문 " + counts.size() + "개 단어로 구성된 시간대입니다.");
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private String dailySummary(String user) throws IOException {
+        Map<String, Integer> counts = countWords(SUMMARY_TITLE.matcher(user));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("topKeywords", top(counts, 3));
+        body.put("dailyTimeline", List.of(
+                Map.of("time", "09:00", "description", "오전 활동"),
+                Map.of("time", "14:00", "description", "오후 활동"),
+                Map.of("time", "20:00", "description", "저녁 활동")));
+        body.put("summaryText", List.of("스텁 요약 1", "스텁 요약 2", "스텁 요약 3"));
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private static Map<String, Integer> countWords(Matcher matcher) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        while (matcher.find()) {
+            for (String word : matcher.group(1).split("[\\s\\-|:·,]+")) {
+                if (word.length() > 1) {
+                    counts.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static List<Map<String, Object>> top(Map<String, Integer> counts, int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .limit(limit)
+                .map(e -> Map.<String, Object>of("keyword", e.getKey(), "frequency", e.getValue()))
+                .toList();
+    }
+
+    // ===== HTTP =====
+
+    private static String message(JsonNode request, String role) {
+        for (JsonNode message : request.path("messages")) {
+            if (role.equals(message.path("role").asText())) {
+                return message.path("content").asText("");
+            }
+        }
+        return "";
+    }
+
+    private void writeStream(HttpExchange exchange, String content, int promptTokens, int completionTokens)
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        for (int i = 0; i < content.length(); i += config.streamChunkSize()) {
+            String delta = content.substring(i, Math.min(content.length(), i + config.streamChunkSize()));
+            Map<String, Object> chunk = Map.of("choices", List.of(Map.of("index", 0, "delta", Map.of("content", delta))));
+            out.write(("data: " + objectMapper.writeValueAsString(chunk) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+        Map<String, Object> usage = Map.of("choices", List.of(),
+                "usage", Map.of("prompt_tokens", promptTokens, "completion_tokens", completionTokens));
+        out.write(("data: " + objectMapper.writeValueAsString(usage) + "\n\ndata: [DONE]\n\n")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void write(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 스텁 동작 설정
+     *
+     * @param latency         요청마다의 응답 지연
+     * @param errorRate       500/429 로 응답할 비율 (0~1)
+     * @param malformedRate   content 를 절반에서 잘라 깨진 JSON 을 보낼 비율 (0~1)
+     * @param streamChunkSize 스트리밍 응답의 chunk 당 글자 수
+     */
+    public record Config(LatencyDistribution latency, double errorRate, double malformedRate, int streamChunkSize) {
+
+        public static Config defaults() {
+            return new Config(LatencyDistribution.fixed(0), 0, 0, 16);
+        }
+    }
+
+    /**
+     * 응답 지연 분포 (밀리초)
+     */
+    @FunctionalInterface
+    public interface LatencyDistribution {
+
+        long sampleMillis();
+
+        static LatencyDistribution fixed(long millis) {
+            return () -> millis;
+        }
+
+        static LatencyDistribution uniform(long minMillis, long maxMillis) {
+            return () -> ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+        }
+
+        /**
+         * 중앙값 medianMillis, 로그 표준편차 sigma 의 로그정규 분포 - LLM 응답처럼 꼬리가 긴 지연
+         */
+        static LatencyDistribution logNormal(long medianMillis, double sigma) {
+            return () -> Math.round(medianMillis * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+        }
+    }
+}